@@ -1,5 +1,6 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
 import com.blueveery.springrest2ts.angular2jsonapi.JsonApiModelConfig;
 import com.blueveery.springrest2ts.implgens.EmptyImplementationGenerator;
 import com.blueveery.springrest2ts.naming.ClassNameMapper;
@@ -182,4 +183,10 @@ public class ModelClassesToTsAngular2JsonApiConverter extends ModelClassesAbstra
         tsField.getTsDecoratorList().add(attributeDecorator);
         tsField.getOwner().addScopedTypeUsage(attributeDecorator.getTsFunction());
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        super.describeConfiguration(configurationDescription);
+        configurationDescription.add("modelsVariable", modelsVariable);
+    }
 }
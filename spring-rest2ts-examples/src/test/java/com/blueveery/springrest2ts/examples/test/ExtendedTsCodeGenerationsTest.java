@@ -1,21 +1,48 @@
 package com.blueveery.springrest2ts.examples.test;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
+import com.blueveery.springrest2ts.GenerationReport;
 import com.blueveery.springrest2ts.converters.*;
 import com.blueveery.springrest2ts.examples.ctrls.spring.core.BaseCtrl;
+import com.blueveery.springrest2ts.examples.model.AddressDTO;
 import com.blueveery.springrest2ts.examples.model.Named;
+import com.blueveery.springrest2ts.examples.model.PersonDTO;
 import com.blueveery.springrest2ts.examples.model.core.BaseDTO;
+import com.blueveery.springrest2ts.examples.model.core.ParametrizedBaseDTO;
+import com.blueveery.springrest2ts.examples.test.reachable.Canvas;
+import com.blueveery.springrest2ts.examples.test.reachable.CanvasService;
 import com.blueveery.springrest2ts.filters.*;
 import com.blueveery.springrest2ts.naming.SubstringClassNameMapper;
-import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.*;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
 import org.junit.Test;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
+import java.nio.file.attribute.FileTime;
+import java.time.temporal.Temporal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
 
 public class ExtendedTsCodeGenerationsTest extends TsCodeGenerationsTest{
 
@@ -122,4 +149,299 @@ public class ExtendedTsCodeGenerationsTest extends TsCodeGenerationsTest{
 
         tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
     }
+
+    @Test
+    public void parallelClassPathScanning() throws IOException {
+        tsGenerator.getClassPathScanner().setParallelScanning(true);
+
+        assertSameAsSerialGeneration("parallel-scanning");
+    }
+
+    @Test
+    public void classPathScanIndex() throws IOException {
+        tsGenerator.getClassPathScanner().setScanIndexDirectory(Paths.get("target/rest2ts-cache"));
+
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+    }
+
+    @Test
+    public void isolatedClassPath() throws IOException {
+        tsGenerator.setIsolatedClassPath(Collections.singletonList(Paths.get("target/classes")));
+
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+    }
+
+    @Test
+    public void reachableTypesOnly() throws IOException {
+        Path outputDir = Paths.get("target/rest2ts-reachable");
+        FileSystemUtils.deleteRecursively(outputDir.toFile());
+        tsGenerator.setModelClassesCondition(new OrFilterOperator(Arrays.asList(new ExtendsJavaTypeFilter(ParametrizedBaseDTO.class), new JavaTypePackageFilter(Canvas.class.getPackage()))));
+        tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(Collections.singleton(CanvasService.class)));
+        tsGenerator.setReachableTypesOnly(true);
+
+        tsGenerator.generate(javaPackageSet, outputDir);
+        //Circle is reachable only as subtype of referenced Shape, Sketch isn't referenced
+        assertEquals(new TreeSet<>(Arrays.asList("Canvas", "CanvasService", "Circle", "Shape")), getExportedTypeNames(outputDir.resolve("test-reachable.ts")));
+        assertEquals(new TreeSet<>(Arrays.asList("AddressDTO", "ManufacturerDTO")), getExportedTypeNames(outputDir.resolve("examples-model.ts")));
+        //super types are kept, but their other subtypes like LongIdDTO aren't
+        assertEquals(new TreeSet<>(Arrays.asList("BaseDTO", "ParametrizedBaseDTO")), getExportedTypeNames(outputDir.resolve("model-core.ts")));
+        //enum used only in property of reachable class is kept
+        assertEquals(Collections.singleton("OrderPaymentStatus"), getExportedTypeNames(outputDir.resolve("model-enums.ts")));
+    }
+
+    /**
+     * Generates modules with configured generator and then with default serial one, module files must be identical
+     */
+    private void assertSameAsSerialGeneration(String outputDirName) throws IOException {
+        Path outputDir = Paths.get("target/rest2ts-" + outputDirName);
+        FileSystemUtils.deleteRecursively(outputDir.toFile());
+        tsGenerator.generate(javaPackageSet, outputDir.resolve("configured"));
+        setUp();
+        tsGenerator.generate(javaPackageSet, outputDir.resolve("serial"));
+
+        Map<Path, byte[]> configuredModuleFiles = readModuleFiles(outputDir.resolve("configured"));
+        Map<Path, byte[]> serialModuleFiles = readModuleFiles(outputDir.resolve("serial"));
+        assertFalse(serialModuleFiles.isEmpty());
+        assertEquals(serialModuleFiles.keySet(), configuredModuleFiles.keySet());
+        for (Map.Entry<Path, byte[]> serialModuleFile : serialModuleFiles.entrySet()) {
+            assertArrayEquals(serialModuleFile.getKey().toString(), serialModuleFile.getValue(), configuredModuleFiles.get(serialModuleFile.getKey()));
+        }
+    }
+
+    private Map<Path, byte[]> readModuleFiles(Path outputDir) throws IOException {
+        Map<Path, byte[]> moduleFiles = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            for (Path moduleFile : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                moduleFiles.put(outputDir.relativize(moduleFile), Files.readAllBytes(moduleFile));
+            }
+        }
+        return moduleFiles;
+    }
+
+    private Set<String> getExportedTypeNames(Path moduleFile) throws IOException {
+        Set<String> exportedTypeNames = new TreeSet<>();
+        Matcher exportMatcher = Pattern.compile("^export (?:interface|class|enum|type) ([\\w$]+)", Pattern.MULTILINE)
+                .matcher(new String(Files.readAllBytes(moduleFile), StandardCharsets.UTF_8));
+        while (exportMatcher.find()) {
+            exportedTypeNames.add(exportMatcher.group(1));
+        }
+        return exportedTypeNames;
+    }
+
+    @Test
+    public void scanDiagnostics() throws IOException {
+        ScanDiagnostics scanDiagnostics = new ScanDiagnostics();
+        tsGenerator.setScanDiagnostics(scanDiagnostics);
+
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+
+        scanDiagnostics.explainRejected(".*DTO", LoggerFactory.getLogger("gen-logger"));
+        scanDiagnostics.writeSummary(Paths.get("target/rest2ts-scan-summary.txt"));
+    }
+
+    @Test
+    public void ambientModules() throws IOException {
+        tsGenerator.setGenerateAmbientModules(true);
+
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+    }
+
+    @Test
+    public void typeMappingRules() throws IOException {
+        tsGenerator.getTypeMappingTable().register(Temporal.class, (javaType, fallbackType) -> TypeMapper.tsString);
+        tsGenerator.getTypeMappingTable().registerExact(BigDecimal.class, (javaType, fallbackType) -> TypeMapper.tsString);
+
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+    }
+
+    abstract static class PersonMixin {
+        @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+        private String firstName;
+        @JsonRawValue
+        private AddressDTO homeAddress;
+    }
+
+    @Test
+    public void jacksonDatabindObjectMapper() throws IOException {
+        com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        objectMapper.addMixIn(PersonDTO.class, PersonMixin.class);
+        //CategoryDTO has conflicting property names which are rejected by Jackson databind
+        tsGenerator.setModelClassesCondition(new AndFilterOperator(Arrays.asList(
+                new ExtendsJavaTypeFilter(ParametrizedBaseDTO.class),
+                new NotJavaTypeFilter(new ContainsSubStringJavaTypeFilter("CategoryDTO")))));
+        tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonDatabindObjectMapper(objectMapper)));
+
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+
+        String modelModule = new String(Files.readAllBytes(OUTPUT_DIR_PATH.resolve("examples-model.ts")), StandardCharsets.UTF_8);
+        assertTrue(modelModule.contains("readonly firstName: string;"));
+        assertTrue(modelModule.contains("\nlastName: string;"));
+        assertTrue(modelModule.contains("\nhomeAddress: any;"));
+        assertFalse(modelModule.contains("workAddress"));
+        assertFalse(modelModule.contains("interface CategoryDTO "));
+    }
+
+    @Test
+    public void parallelConversion() throws IOException {
+        tsGenerator.setConversionParallelism(4);
+
+        assertSameAsSerialGeneration("parallel-conversion");
+    }
+
+    @Test
+    public void concurrentModuleWriting() throws IOException {
+        ExecutorService moduleWriteExecutor = Executors.newFixedThreadPool(4);
+        try {
+            tsGenerator.setModuleWriteExecutor(moduleWriteExecutor);
+
+            tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+        } finally {
+            moduleWriteExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void pipelinedModuleWriting() throws IOException {
+        tsGenerator.setPipelinedModuleWriting(true);
+        tsGenerator.setConversionParallelism(4);
+
+        assertSameAsSerialGeneration("pipelined-writing");
+    }
+
+    @Test
+    public void generationReport() throws IOException {
+        GenerationReport generationReport = new GenerationReport(10);
+        tsGenerator.setGenerationReport(generationReport);
+
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+        generationReport.writeReport(Paths.get("target/rest2ts-generation-report.properties"));
+    }
+
+    @Test
+    public void incrementalGeneration() throws IOException {
+        Path dependencyGraphFile = Paths.get("target/rest2ts-dependency-graph.bin");
+        //output directory is shared by tests, so the first run has to be a full generation
+        Files.deleteIfExists(dependencyGraphFile);
+        Set<String> allModuleNames = new TreeSet<>(Arrays.asList("ctrls-spring", "examples-model", "model-core", "model-enums", "spring-core"));
+        //spring-core module contains only BaseCtrl which has no converted members
+        Set<String> membersModuleNames = new TreeSet<>(Arrays.asList("ctrls-spring", "examples-model", "model-core", "model-enums"));
+        assertEquals(membersModuleNames, generateIncrementally(dependencyGraphFile));
+
+        Map<Path, FileTime> moduleFileTimes = resetModuleFileTimes(allModuleNames);
+        setUp();
+        assertEquals(Collections.emptySet(), generateIncrementally(dependencyGraphFile));
+        assertEquals(moduleFileTimes, getModuleFileTimes(allModuleNames));
+
+        Path enumsModuleFile = OUTPUT_DIR_PATH.resolve("model-enums.ts");
+        Files.delete(enumsModuleFile);
+        setUp();
+        assertEquals(Collections.singleton("model-enums"), generateIncrementally(dependencyGraphFile));
+        assertTrue(Files.exists(enumsModuleFile));
+        moduleFileTimes.remove(enumsModuleFile);
+        assertEquals(moduleFileTimes, getModuleFileTimes(new TreeSet<>(Arrays.asList("ctrls-spring", "examples-model", "model-core", "spring-core"))));
+
+        setUp();
+        JacksonObjectMapper jacksonObjectMapper = new JacksonObjectMapper();
+        jacksonObjectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+        jacksonObjectMapper.setGettersVisibility(JsonAutoDetect.Visibility.NONE);
+        modelClassesConverter = new ModelClassesToTsInterfacesConverter(jacksonObjectMapper);
+        tsGenerator.setModelClassesConverter(modelClassesConverter);
+        assertEquals(membersModuleNames, generateIncrementally(dependencyGraphFile));
+
+        setUp();
+        DefaultNullableTypesStrategy nullableTypesStrategy = new DefaultNullableTypesStrategy();
+        nullableTypesStrategy.setUseOptional(false);
+        tsGenerator.setNullableTypesStrategy(nullableTypesStrategy);
+        assertEquals(membersModuleNames, generateIncrementally(dependencyGraphFile));
+
+        setUp();
+        restClassesConverter.setClassNameMapper(new SubstringClassNameMapper("Ctrl", "Service"));
+        assertEquals(membersModuleNames, generateIncrementally(dependencyGraphFile));
+        setUp();
+        restClassesConverter.setClassNameMapper(new SubstringClassNameMapper("Ctrl", "Service"));
+        assertEquals(Collections.emptySet(), generateIncrementally(dependencyGraphFile));
+
+        //listener which doesn't describe its configuration causes full generation
+        setUp();
+        restClassesConverter.setClassNameMapper(new SubstringClassNameMapper("Ctrl", "Service"));
+        restClassesConverter.getConversionListener().getConversionListenerSet().add(new ConversionListener() {
+        });
+        assertEquals(membersModuleNames, generateIncrementally(dependencyGraphFile));
+    }
+
+    /**
+     * @return names of modules which members were converted
+     */
+    private Set<String> generateIncrementally(Path dependencyGraphFile) throws IOException {
+        ConvertedModulesListener convertedModulesListener = new ConvertedModulesListener();
+        modelClassesConverter.getConversionListener().getConversionListenerSet().add(convertedModulesListener);
+        restClassesConverter.getConversionListener().getConversionListenerSet().add(convertedModulesListener);
+        tsGenerator.setDependencyGraphFile(dependencyGraphFile);
+
+        SortedSet<TSModule> tsModules = tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+        Set<String> convertedModuleNames = new TreeSet<>(convertedModulesListener.convertedModuleNames);
+        for (TSModule tsModule : tsModules) {
+            for (TSScopedElement tsScopedElement : tsModule.getScopedTypesSet()) {
+                if (tsScopedElement instanceof TSEnum && !((TSEnum) tsScopedElement).getTsEnumConstantList().isEmpty()) {
+                    convertedModuleNames.add(tsModule.getName());
+                }
+            }
+        }
+        return convertedModuleNames;
+    }
+
+    private Map<Path, FileTime> resetModuleFileTimes(Set<String> moduleNames) throws IOException {
+        FileTime previousTime = FileTime.fromMillis(System.currentTimeMillis() - 3600 * 1000);
+        for (String moduleName : moduleNames) {
+            Files.setLastModifiedTime(OUTPUT_DIR_PATH.resolve(moduleName + ".ts"), previousTime);
+        }
+        return getModuleFileTimes(moduleNames);
+    }
+
+    private Map<Path, FileTime> getModuleFileTimes(Set<String> moduleNames) throws IOException {
+        Map<Path, FileTime> moduleFileTimes = new HashMap<>();
+        for (String moduleName : moduleNames) {
+            Path moduleFile = OUTPUT_DIR_PATH.resolve(moduleName + ".ts");
+            moduleFileTimes.put(moduleFile, Files.getLastModifiedTime(moduleFile));
+        }
+        return moduleFileTimes;
+    }
+
+    private static class ConvertedModulesListener implements ConversionListener, DescribedConfiguration {
+        private final Set<String> convertedModuleNames = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void tsFieldCreated(Property property, TSField tsField) {
+            convertedModuleNames.add(tsField.getOwner().getModule().getName());
+        }
+
+        @Override
+        public void tsMethodCreated(Method method, TSMethod tsMethod) {
+            convertedModuleNames.add(tsMethod.getOwner().getModule().getName());
+        }
+
+        @Override
+        public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        }
+    }
+
+    @Test
+    public void staleModulesDeletion() throws IOException {
+        Path moduleListFile = Paths.get("target/rest2ts-modules.txt");
+        Path staleModuleFile = OUTPUT_DIR_PATH.resolve("stale-module.ts");
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+        Path enumsModuleFile = OUTPUT_DIR_PATH.resolve("model-enums.ts");
+        Files.setLastModifiedTime(enumsModuleFile, FileTime.fromMillis(System.currentTimeMillis() - 3600 * 1000));
+        FileTime enumsModuleFileTime = Files.getLastModifiedTime(enumsModuleFile);
+        Files.write(staleModuleFile, Collections.singletonList("export interface Stale {}"));
+        Files.write(moduleListFile, Collections.singletonList(staleModuleFile.toAbsolutePath().normalize().toString()));
+
+        setUp();
+        tsGenerator.setModuleListFile(moduleListFile);
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+        assertFalse(Files.exists(staleModuleFile));
+        assertEquals(enumsModuleFileTime, Files.getLastModifiedTime(enumsModuleFile));
+        assertTrue(Files.readAllLines(moduleListFile, StandardCharsets.UTF_8).contains(enumsModuleFile.toAbsolutePath().normalize().toString()));
+    }
 }
@@ -0,0 +1,12 @@
+package com.blueveery.springrest2ts.examples.test.reachable;
+
+import com.blueveery.springrest2ts.examples.model.ManufacturerDTO;
+import com.blueveery.springrest2ts.examples.model.enums.OrderPaymentStatus;
+
+import java.util.List;
+
+public class Canvas {
+    private List<Shape> shapes;
+    private ManufacturerDTO manufacturer;
+    private OrderPaymentStatus paymentStatus;
+}
@@ -0,0 +1,7 @@
+package com.blueveery.springrest2ts.examples.test.reachable;
+
+public class CanvasService {
+    public Canvas getCanvas() {
+        return null;
+    }
+}
@@ -0,0 +1,5 @@
+package com.blueveery.springrest2ts.examples.test.reachable;
+
+public class Circle extends Shape {
+    private double radius;
+}
@@ -0,0 +1,5 @@
+package com.blueveery.springrest2ts.examples.test.reachable;
+
+public class Shape {
+    private String color;
+}
@@ -0,0 +1,201 @@
+package com.blueveery.springrest2ts;
+
+import com.blueveery.springrest2ts.tsmodel.TSElement;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Description of effective generator configuration, its hash is the configuration fingerprint of incremental
+ * generation. Configuration elements declare their settings by implementing {@link DescribedConfiguration}, they are
+ * also described by bytecode hashes of their classes, so changed code of converters also changes the fingerprint.
+ * Simple values, classes, paths and patterns are described by their values, TS model elements only by their names,
+ * arrays, collections and maps by their elements. Lambdas which don't capture any value are described by bytecode of
+ * class which defines them. If any value can't be described, fingerprint is empty and it never matches previous one
+ */
+public class ConfigurationDescription {
+    private static final String LAMBDA_CLASS_MARKER = "$$Lambda";
+
+    private final Map<Object, String> describedObjects = new IdentityHashMap<>();
+    private final Set<Object> objectsInProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Class, String> classHashMap = new HashMap<>();
+    private final Deque<String> elementPath = new ArrayDeque<>();
+    private StringBuilder description = new StringBuilder();
+    private String undescribedElement;
+
+    ConfigurationDescription() {
+    }
+
+    public ConfigurationDescription add(String name, Object value) {
+        elementPath.addLast(name);
+        try {
+            description.append(name).append('=').append(describe(value)).append(';');
+        } finally {
+            elementPath.removeLast();
+        }
+        return this;
+    }
+
+    /**
+     * Adds hash of bytecode of given class, for classes which code affects generation but which aren't configuration
+     */
+    ConfigurationDescription addCode(Class javaClass) {
+        description.append(javaClass.getName()).append('#').append(getClassHash(javaClass)).append(';');
+        return this;
+    }
+
+    /**
+     * @return path and class of the first configuration element which couldn't be described or null
+     */
+    String getUndescribedElement() {
+        return undescribedElement;
+    }
+
+    /**
+     * @return SHA-256 of configuration description or empty string if some element couldn't be described
+     */
+    String computeFingerprint() {
+        if (undescribedElement != null) {
+            return "";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(description.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 digest is not available", e);
+        }
+    }
+
+    private String describe(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence) {
+            return '"' + value.toString() + '"';
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Path) {
+            return value.getClass().getSimpleName() + "(" + value + ")";
+        }
+        if (value instanceof Enum) {
+            return ((Enum) value).getDeclaringClass().getName() + "." + ((Enum) value).name();
+        }
+        if (value instanceof Class) {
+            return "class " + ((Class) value).getName();
+        }
+        if (value instanceof Pattern) {
+            return "Pattern(" + ((Pattern) value).pattern() + "," + ((Pattern) value).flags() + ")";
+        }
+        if (value instanceof TSModule) {
+            TSModule tsModule = (TSModule) value;
+            return "TSModule(" + tsModule.getName() + "," + tsModule.getModuleRelativePath() + "," + tsModule.isExternal() + ")";
+        }
+        if (value instanceof TSElement) {
+            return value.getClass().getSimpleName() + "(" + ((TSElement) value).getName() + ")";
+        }
+        if (value instanceof Optional) {
+            return "Optional(" + describe(((Optional) value).orElse(null)) + ")";
+        }
+        if (value.getClass().isArray()) {
+            List<String> elementDescriptions = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                elementDescriptions.add(describe(Array.get(value, i)));
+            }
+            return elementDescriptions.toString();
+        }
+        if (value instanceof Collection) {
+            List<String> elementDescriptions = new ArrayList<>();
+            for (Object element : (Collection) value) {
+                elementDescriptions.add(describe(element));
+            }
+            if (!(value instanceof List)) {
+                Collections.sort(elementDescriptions);
+            }
+            return elementDescriptions.toString();
+        }
+        if (value instanceof Map) {
+            List<String> entryDescriptions = new ArrayList<>();
+            for (Map.Entry entry : ((Map<?, ?>) value).entrySet()) {
+                entryDescriptions.add(describe(entry.getKey()) + ":" + describe(entry.getValue()));
+            }
+            Collections.sort(entryDescriptions);
+            return entryDescriptions.toString();
+        }
+        if (isLambdaClass(value.getClass()) && value.getClass().getDeclaredFields().length == 0) {
+            return "lambda " + getLambdaHostClassName(value.getClass()) + "#" + getClassHash(value.getClass());
+        }
+        if (value instanceof DescribedConfiguration) {
+            return describeConfigurationElement((DescribedConfiguration) value);
+        }
+        return undescribed(value);
+    }
+
+    private String describeConfigurationElement(DescribedConfiguration configurationElement) {
+        String elementDescription = describedObjects.get(configurationElement);
+        if (elementDescription != null) {
+            return elementDescription;
+        }
+        if (!objectsInProgress.add(configurationElement)) {
+            return "cycle " + configurationElement.getClass().getName();
+        }
+        StringBuilder outerDescription = description;
+        description = new StringBuilder(configurationElement.getClass().getName()).append('{');
+        try {
+            for (Class javaClass = configurationElement.getClass(); javaClass != null && !isPlatformClass(javaClass); javaClass = javaClass.getSuperclass()) {
+                description.append(getClassHash(javaClass)).append(',');
+            }
+            configurationElement.describeConfiguration(this);
+            elementDescription = description.append('}').toString();
+        } finally {
+            description = outerDescription;
+            objectsInProgress.remove(configurationElement);
+        }
+        describedObjects.put(configurationElement, elementDescription);
+        return elementDescription;
+    }
+
+    private String undescribed(Object value) {
+        if (undescribedElement == null) {
+            undescribedElement = String.join(".", elementPath) + " (" + value.getClass().getName() + ")";
+        }
+        return "?";
+    }
+
+    private String getClassHash(Class javaClass) {
+        return classHashMap.computeIfAbsent(javaClass, this::computeClassHash);
+    }
+
+    /**
+     * Lambda classes are generated at runtime, so hash of class which defines lambda is used
+     */
+    private String computeClassHash(Class javaClass) {
+        String className = isLambdaClass(javaClass) ? getLambdaHostClassName(javaClass) : javaClass.getName();
+        ClassLoader classLoader = javaClass.getClassLoader() != null ? javaClass.getClassLoader() : ClassLoader.getSystemClassLoader();
+        String classHash = IncrementalGeneration.computeClassHash(classLoader, className);
+        if (classHash.isEmpty() && undescribedElement == null) {
+            undescribedElement = String.join(".", elementPath) + " (" + javaClass.getName() + ")";
+        }
+        return classHash;
+    }
+
+    private static boolean isLambdaClass(Class javaClass) {
+        return javaClass.isSynthetic() && javaClass.getName().contains(LAMBDA_CLASS_MARKER);
+    }
+
+    /**
+     * Lambda classes are named after class which defines lambda, their number suffix depends on order of linkage
+     */
+    private static String getLambdaHostClassName(Class javaClass) {
+        return javaClass.getName().substring(0, javaClass.getName().indexOf(LAMBDA_CLASS_MARKER));
+    }
+
+    private static boolean isPlatformClass(Class javaClass) {
+        String className = javaClass.getName();
+        return javaClass.getClassLoader() == null || className.startsWith("java.") || className.startsWith("javax.");
+    }
+}
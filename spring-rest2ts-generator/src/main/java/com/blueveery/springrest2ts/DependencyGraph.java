@@ -0,0 +1,144 @@
+package com.blueveery.springrest2ts;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Modules written by generation linked to java classes mapped to them and to java classes they depend on, each class
+ * is stored with hash of its bytecode. Graph is stored on disk between generator runs, module is up to date as long
+ * as classes mapped to it are the same and hashes of all its classes are unchanged
+ */
+public class DependencyGraph {
+    private static final int FORMAT_VERSION = 1;
+
+    private String configurationFingerprint = "";
+    private final Map<String, ModuleNode> moduleNodeMap = new TreeMap<>();
+
+    public static DependencyGraph read(Path graphFile) throws IOException {
+        DependencyGraph dependencyGraph = new DependencyGraph();
+        if (!Files.exists(graphFile)) {
+            return dependencyGraph;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(graphFile)))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return dependencyGraph;
+            }
+            dependencyGraph.configurationFingerprint = input.readUTF();
+            int modulesCount = input.readInt();
+            for (int i = 0; i < modulesCount; i++) {
+                ModuleNode moduleNode = new ModuleNode(input.readUTF(), input.readUTF(), input.readBoolean());
+                int mappedClassesCount = input.readInt();
+                for (int j = 0; j < mappedClassesCount; j++) {
+                    moduleNode.mappedClassNames.add(input.readUTF());
+                }
+                int classHashesCount = input.readInt();
+                for (int j = 0; j < classHashesCount; j++) {
+                    moduleNode.classHashMap.put(input.readUTF(), input.readUTF());
+                }
+                dependencyGraph.putModuleNode(moduleNode);
+            }
+        }
+        return dependencyGraph;
+    }
+
+    public void write(Path graphFile) throws IOException {
+        Files.createDirectories(graphFile.toAbsolutePath().getParent());
+        Path tempGraphFile = Files.createTempFile(graphFile.toAbsolutePath().getParent(), graphFile.getFileName().toString(), ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempGraphFile)))) {
+            output.writeInt(FORMAT_VERSION);
+            output.writeUTF(configurationFingerprint);
+            output.writeInt(moduleNodeMap.size());
+            for (ModuleNode moduleNode : moduleNodeMap.values()) {
+                output.writeUTF(moduleNode.moduleName);
+                output.writeUTF(moduleNode.moduleFile);
+                output.writeBoolean(moduleNode.convertedFromJavaClasses);
+                output.writeInt(moduleNode.mappedClassNames.size());
+                for (String className : moduleNode.mappedClassNames) {
+                    output.writeUTF(className);
+                }
+                output.writeInt(moduleNode.classHashMap.size());
+                for (Map.Entry<String, String> classHashEntry : moduleNode.classHashMap.entrySet()) {
+                    output.writeUTF(classHashEntry.getKey());
+                    output.writeUTF(classHashEntry.getValue());
+                }
+            }
+        }
+        Files.move(tempGraphFile, graphFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Fingerprint of generator configuration which isn't visible in java classes, if it changes or it is empty no module
+     * is up to date
+     */
+    public String getConfigurationFingerprint() {
+        return configurationFingerprint;
+    }
+
+    public void setConfigurationFingerprint(String configurationFingerprint) {
+        this.configurationFingerprint = configurationFingerprint;
+    }
+
+    /**
+     * @return node of module with given name or null if module wasn't generated
+     */
+    public ModuleNode getModuleNode(String moduleName) {
+        return moduleNodeMap.get(moduleName);
+    }
+
+    public void putModuleNode(ModuleNode moduleNode) {
+        moduleNodeMap.put(moduleNode.moduleName, moduleNode);
+    }
+
+    public Collection<ModuleNode> getModuleNodes() {
+        return Collections.unmodifiableCollection(moduleNodeMap.values());
+    }
+
+    public static class ModuleNode {
+        private final String moduleName;
+        private final String moduleFile;
+        private final boolean convertedFromJavaClasses;
+        private final SortedSet<String> mappedClassNames = new TreeSet<>();
+        private final SortedMap<String, String> classHashMap = new TreeMap<>();
+
+        /**
+         * @param moduleName module name prefixed by its relative path
+         * @param moduleFile path of generated file relative to output directory
+         * @param convertedFromJavaClasses false if module contains elements which were not converted from java classes
+         */
+        public ModuleNode(String moduleName, String moduleFile, boolean convertedFromJavaClasses) {
+            this.moduleName = moduleName;
+            this.moduleFile = moduleFile;
+            this.convertedFromJavaClasses = convertedFromJavaClasses;
+        }
+
+        public String getModuleName() {
+            return moduleName;
+        }
+
+        public String getModuleFile() {
+            return moduleFile;
+        }
+
+        public boolean isConvertedFromJavaClasses() {
+            return convertedFromJavaClasses;
+        }
+
+        /**
+         * @return names of java classes which were mapped to the module
+         */
+        public SortedSet<String> getMappedClassNames() {
+            return mappedClassNames;
+        }
+
+        /**
+         * @return bytecode hashes of mapped classes and of classes which module depends on, keyed by class name, hash
+         * is empty if class file wasn't found
+         */
+        public SortedMap<String, String> getClassHashMap() {
+            return classHashMap;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.blueveery.springrest2ts;
+
+import java.nio.file.Path;
+
+/**
+ * Element of generator configuration which declares its settings affecting generated code. Incremental generation
+ * compares only declared settings and bytecode of classes of configuration elements, if configuration contains an
+ * element which doesn't implement this interface, all modules are generated, see
+ * {@link Rest2tsGenerator#setDependencyGraphFile(Path)}
+ */
+public interface DescribedConfiguration {
+    /**
+     * Adds settings which affect generated code to given description, caches and state of generation aren't settings
+     */
+    void describeConfiguration(ConfigurationDescription configurationDescription);
+}
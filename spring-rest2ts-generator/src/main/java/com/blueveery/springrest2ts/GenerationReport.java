@@ -0,0 +1,238 @@
+package com.blueveery.springrest2ts;
+
+import com.blueveery.springrest2ts.converters.ConversionListener;
+import com.blueveery.springrest2ts.converters.Property;
+import com.blueveery.springrest2ts.tsmodel.TSField;
+import com.blueveery.springrest2ts.tsmodel.TSMethod;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Report of single generation: wall time and bytes allocated in each phase, number of generated types, fields, methods
+ * and modules, and classes which took the longest time to convert. Allocated bytes are summed over generating thread,
+ * conversion pool threads and module writing threads. Types, fields and methods are counted by conversion listener
+ * hooks, so they include only elements reported by converters
+ */
+public class GenerationReport implements ConversionListener, DescribedConfiguration {
+    private final int slowestClassesCount;
+    private final List<Phase> phases = new ArrayList<>();
+    private final Map<Class, Long> classConversionNanosMap = new ConcurrentHashMap<>();
+    private final LongAdder typesCount = new LongAdder();
+    private final LongAdder fieldsCount = new LongAdder();
+    private final LongAdder methodsCount = new LongAdder();
+    private int modulesCount;
+    private String currentPhaseName;
+    private long currentPhaseStartNanos;
+    private final Map<Long, Long> threadStartAllocatedBytesMap = new ConcurrentHashMap<>();
+    private final Set<Long> currentPhaseThreadIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean currentPhaseAllocationMeasured;
+
+    public GenerationReport() {
+        this(20);
+    }
+
+    public GenerationReport(int slowestClassesCount) {
+        this.slowestClassesCount = slowestClassesCount;
+    }
+
+    public void clear() {
+        phases.clear();
+        classConversionNanosMap.clear();
+        typesCount.reset();
+        fieldsCount.reset();
+        methodsCount.reset();
+        modulesCount = 0;
+        currentPhaseName = null;
+        threadStartAllocatedBytesMap.clear();
+        currentPhaseThreadIds.clear();
+    }
+
+    /**
+     * Threads which took part in previous phases are measured from start of this phase, other threads from their
+     * first task in this phase
+     */
+    void phaseStarted(String phaseName) {
+        currentPhaseName = phaseName;
+        currentPhaseAllocationMeasured = true;
+        currentPhaseThreadIds.clear();
+        for (Long threadId : threadStartAllocatedBytesMap.keySet()) {
+            threadStartAllocatedBytesMap.put(threadId, getThreadAllocatedBytes(threadId));
+        }
+        threadStarted();
+        currentPhaseStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Should be called by each thread which does the work of current phase before it starts its task
+     */
+    void threadStarted() {
+        long threadId = Thread.currentThread().getId();
+        currentPhaseThreadIds.add(threadId);
+        threadStartAllocatedBytesMap.computeIfAbsent(threadId, GenerationReport::getThreadAllocatedBytes);
+    }
+
+    /**
+     * Current phase uses threads which don't report their tasks, so its allocated bytes are reported as -1
+     */
+    void untrackedThreadsUsed() {
+        currentPhaseAllocationMeasured = false;
+    }
+
+    void phaseFinished() {
+        long wallTimeNanos = System.nanoTime() - currentPhaseStartNanos;
+        long allocatedBytes = 0;
+        for (Map.Entry<Long, Long> threadStartEntry : threadStartAllocatedBytesMap.entrySet()) {
+            long threadAllocatedBytes = getThreadAllocatedBytes(threadStartEntry.getKey());
+            if (threadAllocatedBytes >= 0 && threadStartEntry.getValue() >= 0) {
+                allocatedBytes += threadAllocatedBytes - threadStartEntry.getValue();
+            } else if (currentPhaseThreadIds.contains(threadStartEntry.getKey())) {
+                currentPhaseAllocationMeasured = false;
+            }
+        }
+        threadStartAllocatedBytesMap.values().removeIf(startAllocatedBytes -> startAllocatedBytes < 0);
+        phases.add(new Phase(currentPhaseName, wallTimeNanos, currentPhaseAllocationMeasured ? allocatedBytes : -1));
+        currentPhaseName = null;
+    }
+
+    /**
+     * Adds time spent by converter on given class, it could be called from many threads
+     */
+    void classConverted(Class javaClass, long conversionNanos) {
+        classConversionNanosMap.merge(javaClass, conversionNanos, Long::sum);
+    }
+
+    void modulesGenerated(int modulesCount) {
+        this.modulesCount = modulesCount;
+    }
+
+    @Override
+    public void tsScopedTypeCreated(Class javaType, TSScopedElement tsScopedElement) {
+        typesCount.increment();
+    }
+
+    @Override
+    public void tsFieldCreated(Property property, TSField tsField) {
+        fieldsCount.increment();
+    }
+
+    @Override
+    public void tsMethodCreated(Method method, TSMethod tsMethod) {
+        methodsCount.increment();
+    }
+
+    public List<Phase> getPhases() {
+        return Collections.unmodifiableList(phases);
+    }
+
+    public long getTypesCount() {
+        return typesCount.sum();
+    }
+
+    public long getFieldsCount() {
+        return fieldsCount.sum();
+    }
+
+    public long getMethodsCount() {
+        return methodsCount.sum();
+    }
+
+    public int getModulesCount() {
+        return modulesCount;
+    }
+
+    /**
+     * @return classes with total time of preConverted, convertInheritance and convert in nanoseconds, the slowest first
+     */
+    public List<Map.Entry<Class, Long>> getSlowestClasses() {
+        return classConversionNanosMap.entrySet().stream()
+                .sorted(Map.Entry.<Class, Long>comparingByValue().reversed().thenComparing(e -> e.getKey().getName()))
+                .limit(slowestClassesCount)
+                .map(e -> new AbstractMap.SimpleImmutableEntry<>(e.getKey(), e.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Writes report as properties file, times are in nanoseconds, allocated bytes are -1 if not measured
+     */
+    public void writeReport(Path reportFile) throws IOException {
+        if (reportFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            for (Phase phase : phases) {
+                writeProperty(writer, "phase." + phase.getName() + ".wallTimeNanos", phase.getWallTimeNanos());
+                writeProperty(writer, "phase." + phase.getName() + ".allocatedBytes", phase.getAllocatedBytes());
+            }
+            writeProperty(writer, "count.types", getTypesCount());
+            writeProperty(writer, "count.fields", getFieldsCount());
+            writeProperty(writer, "count.methods", getMethodsCount());
+            writeProperty(writer, "count.modules", getModulesCount());
+            List<Map.Entry<Class, Long>> slowestClasses = getSlowestClasses();
+            for (int i = 0; i < slowestClasses.size(); i++) {
+                writeProperty(writer, "slowestClass." + (i + 1) + "." + slowestClasses.get(i).getKey().getName(), slowestClasses.get(i).getValue());
+            }
+        }
+    }
+
+    private void writeProperty(BufferedWriter writer, String name, long value) throws IOException {
+        writer.write(name + "=" + value);
+        writer.newLine();
+    }
+
+    /**
+     * @return bytes allocated by given thread or -1 if JVM doesn't measure them or thread has terminated
+     */
+    private static long getThreadAllocatedBytes(long threadId) {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationMXBean.getThreadAllocatedBytes(threadId);
+            }
+        }
+        return -1;
+    }
+
+    public static class Phase {
+        private final String name;
+        private final long wallTimeNanos;
+        private final long allocatedBytes;
+
+        Phase(String name, long wallTimeNanos, long allocatedBytes) {
+            this.name = name;
+            this.wallTimeNanos = wallTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWallTimeNanos() {
+            return wallTimeNanos;
+        }
+
+        /**
+         * @return bytes allocated by all threads which did the work of the phase or -1 if it isn't measured
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+    }
+}
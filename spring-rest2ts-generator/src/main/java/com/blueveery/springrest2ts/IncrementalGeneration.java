@@ -0,0 +1,224 @@
+package com.blueveery.springrest2ts;
+
+import com.blueveery.springrest2ts.tsmodel.TSImport;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Finds modules which are up to date according to dependency graph of previous generation. Module depends on classes
+ * mapped to it, their super types, types of their declared members and classes of imported TS types. Types of up to
+ * date modules are still registered and their inheritance is converted, so other modules could refer to them, but
+ * their members are not converted and modules are not written
+ */
+class IncrementalGeneration {
+    private final Path dependencyGraphFile;
+    private final Path outputDir;
+    private final ClassLoader classLoader;
+    private final String configurationFingerprint;
+    private final DependencyGraph previousDependencyGraph;
+    private final Map<Class, TSModule> classModuleMap = new HashMap<>();
+    private final Map<TSModule, Set<Class>> moduleClassesMap = new HashMap<>();
+    private final Map<String, String> classHashMap = new HashMap<>();
+    private final Set<TSModule> upToDateModules = new HashSet<>();
+
+    IncrementalGeneration(Path dependencyGraphFile, Path outputDir, ClassLoader classLoader, String configurationFingerprint) throws IOException {
+        this.dependencyGraphFile = dependencyGraphFile;
+        this.outputDir = outputDir;
+        this.classLoader = classLoader;
+        this.configurationFingerprint = configurationFingerprint;
+        this.previousDependencyGraph = DependencyGraph.read(dependencyGraphFile);
+    }
+
+    /**
+     * Should be called for each java class after it is mapped to module and before conversion starts
+     */
+    void classMapped(Class javaClass, TSModule tsModule) {
+        classModuleMap.put(javaClass, tsModule);
+        moduleClassesMap.computeIfAbsent(tsModule, m -> new HashSet<>()).add(javaClass);
+    }
+
+    Set<TSModule> findUpToDateModules() {
+        upToDateModules.clear();
+        if (configurationFingerprint.isEmpty() || !configurationFingerprint.equals(previousDependencyGraph.getConfigurationFingerprint())) {
+            return upToDateModules;
+        }
+        for (Map.Entry<TSModule, Set<Class>> moduleClassesEntry : moduleClassesMap.entrySet()) {
+            DependencyGraph.ModuleNode moduleNode = previousDependencyGraph.getModuleNode(getModuleName(moduleClassesEntry.getKey()));
+            if (moduleNode != null && isUpToDate(moduleNode, moduleClassesEntry.getValue())) {
+                upToDateModules.add(moduleClassesEntry.getKey());
+            }
+        }
+        return upToDateModules;
+    }
+
+    private boolean isUpToDate(DependencyGraph.ModuleNode moduleNode, Set<Class> mappedClasses) {
+        if (!moduleNode.isConvertedFromJavaClasses() || moduleNode.getMappedClassNames().size() != mappedClasses.size()) {
+            return false;
+        }
+        for (Class mappedClass : mappedClasses) {
+            if (!moduleNode.getMappedClassNames().contains(mappedClass.getName())) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, String> classHashEntry : moduleNode.getClassHashMap().entrySet()) {
+            if (!getClassHash(classHashEntry.getKey()).equals(classHashEntry.getValue())) {
+                return false;
+            }
+        }
+        return Files.exists(outputDir.resolve(moduleNode.getModuleFile()));
+    }
+
+    boolean isUpToDate(Class javaClass) {
+        return upToDateModules.contains(classModuleMap.get(javaClass));
+    }
+
+    /**
+     * Writes graph in which up to date modules keep their previous nodes and nodes of other modules are created from
+     * their converted elements and imports
+     */
+    void writeDependencyGraph(SortedSet<TSModule> tsModules) throws IOException {
+        DependencyGraph dependencyGraph = new DependencyGraph();
+        dependencyGraph.setConfigurationFingerprint(configurationFingerprint);
+        for (TSModule tsModule : tsModules) {
+            if (upToDateModules.contains(tsModule)) {
+                dependencyGraph.putModuleNode(previousDependencyGraph.getModuleNode(getModuleName(tsModule)));
+            } else {
+                dependencyGraph.putModuleNode(createModuleNode(tsModule));
+            }
+        }
+        dependencyGraph.write(dependencyGraphFile);
+    }
+
+    private DependencyGraph.ModuleNode createModuleNode(TSModule tsModule) {
+        Set<Class> mappedClasses = moduleClassesMap.getOrDefault(tsModule, Collections.emptySet());
+        Set<Class> dependencyClasses = new HashSet<>(mappedClasses);
+        boolean convertedFromJavaClasses = true;
+        for (TSScopedElement tsScopedElement : tsModule.getScopedTypesSet()) {
+            convertedFromJavaClasses &= !tsScopedElement.getMappedFromJavaTypeSet().isEmpty();
+            dependencyClasses.addAll(tsScopedElement.getMappedFromJavaTypeSet());
+        }
+        for (Class mappedClass : new ArrayList<>(dependencyClasses)) {
+            addHierarchyMembersTypes(mappedClass, dependencyClasses, new HashSet<>());
+        }
+        for (TSImport tsImport : tsModule.getImportMap().values()) {
+            for (TSScopedElement importedElement : tsImport.getWhat()) {
+                dependencyClasses.addAll(importedElement.getMappedFromJavaTypeSet());
+            }
+        }
+
+        String moduleFile = tsModule.getName() + "." + tsModule.getModuleExtensionType();
+        if (tsModule.getModuleRelativePath() != null) {
+            moduleFile = tsModule.getModuleRelativePath().resolve(moduleFile).normalize().toString();
+        }
+        DependencyGraph.ModuleNode moduleNode = new DependencyGraph.ModuleNode(getModuleName(tsModule), moduleFile, convertedFromJavaClasses);
+        for (Class mappedClass : mappedClasses) {
+            moduleNode.getMappedClassNames().add(mappedClass.getName());
+        }
+        for (Class dependencyClass : dependencyClasses) {
+            if (!isPlatformClass(dependencyClass)) {
+                moduleNode.getClassHashMap().put(dependencyClass.getName(), getClassHash(dependencyClass.getName()));
+            }
+        }
+        return moduleNode;
+    }
+
+    private void addHierarchyMembersTypes(Class javaClass, Set<Class> dependencyClasses, Set<Class> visitedClasses) {
+        if (javaClass == null || isPlatformClass(javaClass) || !visitedClasses.add(javaClass)) {
+            return;
+        }
+        dependencyClasses.add(javaClass);
+        for (Field field : javaClass.getDeclaredFields()) {
+            addReferencedClasses(field.getGenericType(), dependencyClasses);
+        }
+        for (Method method : javaClass.getDeclaredMethods()) {
+            addReferencedClasses(method.getGenericReturnType(), dependencyClasses);
+            for (Type parameterType : method.getGenericParameterTypes()) {
+                addReferencedClasses(parameterType, dependencyClasses);
+            }
+        }
+        addReferencedClasses(javaClass.getGenericSuperclass(), dependencyClasses);
+        addHierarchyMembersTypes(javaClass.getSuperclass(), dependencyClasses, visitedClasses);
+        for (Type interfaceType : javaClass.getGenericInterfaces()) {
+            addReferencedClasses(interfaceType, dependencyClasses);
+        }
+        for (Class interfaceClass : javaClass.getInterfaces()) {
+            addHierarchyMembersTypes(interfaceClass, dependencyClasses, visitedClasses);
+        }
+    }
+
+    private void addReferencedClasses(Type type, Set<Class> dependencyClasses) {
+        if (type instanceof Class) {
+            Class javaClass = (Class) type;
+            while (javaClass.isArray()) {
+                javaClass = javaClass.getComponentType();
+            }
+            if (!javaClass.isPrimitive()) {
+                dependencyClasses.add(javaClass);
+            }
+        } else if (type instanceof ParameterizedType) {
+            addReferencedClasses(((ParameterizedType) type).getRawType(), dependencyClasses);
+            for (Type typeArgument : ((ParameterizedType) type).getActualTypeArguments()) {
+                addReferencedClasses(typeArgument, dependencyClasses);
+            }
+        } else if (type instanceof GenericArrayType) {
+            addReferencedClasses(((GenericArrayType) type).getGenericComponentType(), dependencyClasses);
+        } else if (type instanceof WildcardType) {
+            for (Type boundType : ((WildcardType) type).getUpperBounds()) {
+                addReferencedClasses(boundType, dependencyClasses);
+            }
+            for (Type boundType : ((WildcardType) type).getLowerBounds()) {
+                addReferencedClasses(boundType, dependencyClasses);
+            }
+        }
+    }
+
+    private boolean isPlatformClass(Class javaClass) {
+        return javaClass.getClassLoader() == null || javaClass.getName().startsWith("java.") || javaClass.getName().startsWith("javax.");
+    }
+
+    private String getClassHash(String className) {
+        return classHashMap.computeIfAbsent(className, this::computeClassHash);
+    }
+
+    private String computeClassHash(String className) {
+        return computeClassHash(classLoader, className);
+    }
+
+    /**
+     * @return SHA-256 of class file loaded by given class loader or empty string if class file can't be read
+     */
+    static String computeClassHash(ClassLoader classLoader, String className) {
+        try (InputStream classInput = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (classInput == null) {
+                return "";
+            }
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int readCount;
+            while ((readCount = classInput.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, readCount);
+            }
+            return Base64.getEncoder().encodeToString(messageDigest.digest());
+        } catch (IOException e) {
+            return "";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 digest is not available", e);
+        }
+    }
+
+    private static String getModuleName(TSModule tsModule) {
+        if (tsModule.getModuleRelativePath() == null) {
+            return tsModule.getName();
+        }
+        return tsModule.getModuleRelativePath().resolve(tsModule.getName()).normalize().toString().replace('\\', '/');
+    }
+}
@@ -0,0 +1,147 @@
+package com.blueveery.springrest2ts;
+
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes modules while classes are still converted. Module is queued for writing when all java classes mapped to it
+ * are converted, its imports are added by conversion of its own types so they are complete at that time. Modules
+ * which contain elements not converted from java classes are left for the generator. Writing thread takes modules
+ * from bounded queue, so conversion waits when writing falls behind
+ */
+class ModuleWritePipeline {
+    private static final int QUEUE_CAPACITY = 16;
+    private static final TSModule END_OF_MODULES = new TSModule("", Paths.get(""), true);
+
+    private final Path outputDir;
+    private final Logger logger;
+    private final boolean generateAmbientModules;
+    private final GenerationReport generationReport;
+    private final BlockingQueue<TSModule> moduleQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Map<Class, TSModule> classModuleMap = new HashMap<>();
+    private final Map<TSModule, Integer> pendingClassesCountMap = new HashMap<>();
+    private final Set<TSModule> queuedModules = new HashSet<>();
+    private final Thread writerThread = new Thread(this::writeModules, "rest2ts-module-writer");
+    private IOException writeException;
+    private boolean closed;
+
+    /**
+     * @param generationReport report which counts bytes allocated by writing thread or null
+     */
+    ModuleWritePipeline(Path outputDir, Logger logger, boolean generateAmbientModules, GenerationReport generationReport) {
+        this.outputDir = outputDir;
+        this.logger = logger;
+        this.generateAmbientModules = generateAmbientModules;
+        this.generationReport = generationReport;
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Should be called for each java class before conversion starts, once for each converter which gets the class
+     */
+    synchronized void classExpected(Class javaClass, TSModule tsModule) {
+        classModuleMap.put(javaClass, tsModule);
+        pendingClassesCountMap.merge(tsModule, 1, Integer::sum);
+    }
+
+    /**
+     * Should be called when converter finished with given class or skipped it
+     */
+    void classConverted(Class javaClass) {
+        TSModule completedModule = completeClass(javaClass);
+        if (completedModule != null) {
+            try {
+                moduleQueue.put(completedModule);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for module writer", e);
+            }
+        }
+    }
+
+    private synchronized TSModule completeClass(Class javaClass) {
+        TSModule tsModule = classModuleMap.get(javaClass);
+        int pendingClassesCount = pendingClassesCountMap.merge(tsModule, -1, Integer::sum);
+        if (pendingClassesCount > 0 || !isConvertedFromJavaClasses(tsModule)) {
+            return null;
+        }
+        queuedModules.add(tsModule);
+        return tsModule;
+    }
+
+    private boolean isConvertedFromJavaClasses(TSModule tsModule) {
+        for (TSScopedElement tsScopedElement : tsModule.getScopedTypesSet()) {
+            if (tsScopedElement.getMappedFromJavaTypeSet().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized Set<TSModule> getQueuedModules() {
+        return new HashSet<>(queuedModules);
+    }
+
+    /**
+     * Waits until queued modules are written
+     */
+    void close() throws InterruptedIOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            moduleQueue.put(END_OF_MODULES);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for module writer");
+        }
+    }
+
+    /**
+     * @return exception which lists modules which failed to be written or null
+     */
+    synchronized IOException getWriteException() {
+        return writeException;
+    }
+
+    private void writeModules() {
+        try {
+            TSModule tsModule;
+            while ((tsModule = moduleQueue.take()) != END_OF_MODULES) {
+                if (generationReport != null) {
+                    generationReport.threadStarted();
+                }
+                try {
+                    tsModule.setModuleExtensionType(Rest2tsGenerator.getModuleExtensionType(tsModule, generateAmbientModules));
+                    tsModule.writeModule(outputDir, logger);
+                } catch (IOException | RuntimeException e) {
+                    addWriteException(new IOException(String.format("Failed to write module %s", tsModule.getName()), e));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void addWriteException(IOException moduleException) {
+        if (writeException == null) {
+            writeException = moduleException;
+        } else {
+            writeException.addSuppressed(moduleException);
+        }
+    }
+}
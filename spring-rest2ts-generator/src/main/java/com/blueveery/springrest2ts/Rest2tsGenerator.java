@@ -4,21 +4,40 @@ import com.blueveery.springrest2ts.converters.*;
 import com.blueveery.springrest2ts.extensions.ConversionExtension;
 import com.blueveery.springrest2ts.extensions.ModelConversionExtension;
 import com.blueveery.springrest2ts.extensions.RestConversionExtension;
+import com.blueveery.springrest2ts.filters.FilterVerdict;
 import com.blueveery.springrest2ts.filters.JavaTypeFilter;
+import com.blueveery.springrest2ts.filters.JavaTypeFilterEvaluator;
+import com.blueveery.springrest2ts.filters.JavaTypeHierarchyIndex;
 import com.blueveery.springrest2ts.filters.OrFilterOperator;
 import com.blueveery.springrest2ts.filters.RejectJavaTypeFilter;
+import com.blueveery.springrest2ts.filters.ScanDiagnostics;
 import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
+import com.blueveery.springrest2ts.jfr.GeneratorEvent;
+import com.blueveery.springrest2ts.jfr.GeneratorEvents;
+import com.blueveery.springrest2ts.scanning.ClassFileHierarchy;
+import com.blueveery.springrest2ts.scanning.ClassFileInfo;
+import com.blueveery.springrest2ts.scanning.ClassPathScanner;
+import com.blueveery.springrest2ts.scanning.IsolatedClassLoader;
+import com.blueveery.springrest2ts.tsmodel.ModuleExtensionType;
 import com.blueveery.springrest2ts.tsmodel.TSModule;
 import com.blueveery.springrest2ts.tsmodel.TSType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.file.*;
+import java.io.InterruptedIOException;
+import java.lang.reflect.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Created by tomaszw on 30.07.2017.
@@ -26,8 +45,8 @@ import java.util.*;
 public class Rest2tsGenerator {
 
     static Logger logger = LoggerFactory.getLogger("gen-logger");
-    public static boolean generateAmbientModules = false;
     private Map<Class, TSType> customTypeMapping = new HashMap<>();
+    private TypeMappingTable typeMappingTable = new TypeMappingTable();
 
     private JavaTypeFilter modelClassesCondition = new RejectJavaTypeFilter();
     private JavaTypeFilter restClassesCondition = new RejectJavaTypeFilter();
@@ -38,13 +57,35 @@ public class Rest2tsGenerator {
     private ComplexTypeConverter enumConverter = new JavaEnumToTsEnumConverter();;
     private ModelClassesAbstractConverter modelClassesConverter;
     private RestClassConverter restClassesConverter;
-
+    private ClassPathScanner classPathScanner = new ClassPathScanner(this.getClass().getClassLoader());
+    private List<Path> isolatedClassPath;
+    private boolean reachableTypesOnly = false;
+    private ScanDiagnostics scanDiagnostics;
+    private boolean generateAmbientModules = false;
+    private int conversionParallelism = 1;
+    private ExecutorService moduleWriteExecutor;
+    private boolean pipelinedModuleWriting = false;
+    private GenerationReport generationReport;
+    private Path dependencyGraphFile;
+    private Path moduleListFile;
 
 
     public Map<Class, TSType> getCustomTypeMapping() {
         return customTypeMapping;
     }
 
+    /**
+     * Rules which map java classes and their subtypes to TypeScript types, used for types which are not converted
+     * and not registered in custom type mapping
+     */
+    public TypeMappingTable getTypeMappingTable() {
+        return typeMappingTable;
+    }
+
+    public void setTypeMappingTable(TypeMappingTable typeMappingTable) {
+        this.typeMappingTable = typeMappingTable;
+    }
+
     public void setModelClassesCondition(JavaTypeFilter modelClassesCondition) {
         this.modelClassesCondition = modelClassesCondition;
     }
@@ -77,46 +118,294 @@ public class Rest2tsGenerator {
         this.nullableTypesStrategy = nullableTypesStrategy;
     }
 
+    public ClassPathScanner getClassPathScanner() {
+        return classPathScanner;
+    }
+
+    public void setClassPathScanner(ClassPathScanner classPathScanner) {
+        this.classPathScanner = classPathScanner;
+    }
+
+    public List<Path> getIsolatedClassPath() {
+        return isolatedClassPath;
+    }
+
+    /**
+     * Classes are loaded from given class path by isolated class loader which is closed when generation is finished,
+     * class path scanner class loader is used as its parent
+     */
+    public void setIsolatedClassPath(List<Path> isolatedClassPath) {
+        this.isolatedClassPath = isolatedClassPath;
+    }
+
+    public boolean isReachableTypesOnly() {
+        return reachableTypesOnly;
+    }
+
+    /**
+     * Only model classes and enums which are reachable from REST classes are converted. Reachable types are found
+     * by following methods return and parameters types, generic type arguments, properties, super types and subtypes
+     */
+    public void setReachableTypesOnly(boolean reachableTypesOnly) {
+        this.reachableTypesOnly = reachableTypesOnly;
+    }
+
+    public ScanDiagnostics getScanDiagnostics() {
+        return scanDiagnostics;
+    }
+
+    /**
+     * Filter verdicts of scanned classes are recorded in given diagnostics, which could explain them after generation
+     */
+    public void setScanDiagnostics(ScanDiagnostics scanDiagnostics) {
+        this.scanDiagnostics = scanDiagnostics;
+    }
+
+    public boolean isGenerateAmbientModules() {
+        return generateAmbientModules;
+    }
+
+    /**
+     * Modules which contain only types are generated as ambient modules `*.d.ts`
+     */
+    public void setGenerateAmbientModules(boolean generateAmbientModules) {
+        this.generateAmbientModules = generateAmbientModules;
+    }
+
+    public int getConversionParallelism() {
+        return conversionParallelism;
+    }
+
+    /**
+     * If greater than 1, inheritance and members of classes are converted in parallel by fork join pool with given
+     * parallelism, TS types are still created and registered by generating thread. Converters, object mappers,
+     * conversion listeners and conversion extensions are then called from several threads at once and must be thread
+     * safe. Types which other types read converted members of, reported by
+     * {@link ComplexTypeConverter#getConversionDependencies(Class)}, are converted serially before the others
+     */
+    public void setConversionParallelism(int conversionParallelism) {
+        if (conversionParallelism < 1) {
+            throw new IllegalArgumentException("Conversion parallelism must be greater than 0");
+        }
+        this.conversionParallelism = conversionParallelism;
+    }
+
+    public ExecutorService getModuleWriteExecutor() {
+        return moduleWriteExecutor;
+    }
+
+    /**
+     * Modules are written concurrently by given executor, for example fixed thread pool or on JDK 21 virtual thread
+     * per task executor. Generator doesn't shut down the executor. If writing of any module fails, generation fails
+     * after all modules are processed
+     */
+    public void setModuleWriteExecutor(ExecutorService moduleWriteExecutor) {
+        this.moduleWriteExecutor = moduleWriteExecutor;
+    }
+
+    public boolean isPipelinedModuleWriting() {
+        return pipelinedModuleWriting;
+    }
+
+    /**
+     * Modules are written by separate thread during conversion, as soon as all java classes mapped to module are
+     * converted. Modules which contain elements not converted from java classes are written after conversion
+     */
+    public void setPipelinedModuleWriting(boolean pipelinedModuleWriting) {
+        this.pipelinedModuleWriting = pipelinedModuleWriting;
+    }
+
+    public GenerationReport getGenerationReport() {
+        return generationReport;
+    }
+
+    /**
+     * Phases times, counts of generated elements and the slowest classes are recorded in given report, which could
+     * be written after generation
+     */
+    public void setGenerationReport(GenerationReport generationReport) {
+        this.generationReport = generationReport;
+    }
+
+    public Path getDependencyGraphFile() {
+        return dependencyGraphFile;
+    }
+
+    /**
+     * Generation is incremental, dependency graph of generated modules is stored in given file and in the next run
+     * only modules whose java classes or their dependencies changed are converted and written. Any change of
+     * configuration of converters, object mappers, listeners, nullable types strategy, module converter or type mapping
+     * causes full generation. Configuration is compared by settings declared by configuration elements and bytecode of
+     * their classes, see {@link DescribedConfiguration}, if it contains element which doesn't declare its settings,
+     * all modules are always generated
+     */
+    public void setDependencyGraphFile(Path dependencyGraphFile) {
+        this.dependencyGraphFile = dependencyGraphFile;
+    }
+
+    public Path getModuleListFile() {
+        return moduleListFile;
+    }
+
+    /**
+     * Files of generated modules are listed in given file, modules listed by previous generation which are not
+     * generated anymore are deleted. Only files listed by generator are deleted, other files in output directory are
+     * left unchanged
+     */
+    public void setModuleListFile(Path moduleListFile) {
+        this.moduleListFile = moduleListFile;
+    }
+
     public SortedSet<TSModule> generate(Set<String> inputPackagesNames, Path outputDir) throws IOException {
+        if (scanDiagnostics != null) {
+            scanDiagnostics.clear();
+        }
+        List<ComplexTypeConverter> reportedConverters = new ArrayList<>();
+        if (generationReport != null) {
+            generationReport.clear();
+            for (ComplexTypeConverter converter : Arrays.asList(enumConverter, modelClassesConverter, restClassesConverter)) {
+                if (converter != null && converter.getConversionListener().getConversionListenerSet().add(generationReport)) {
+                    reportedConverters.add(converter);
+                }
+            }
+        }
+        TypeRegistry previousTypeRegistry = TypeRegistry.bind(new TypeRegistry(typeMappingTable));
+        try {
+            if (isolatedClassPath == null) {
+                return generate(inputPackagesNames, outputDir, classPathScanner.getClassLoader());
+            }
+            try (IsolatedClassLoader isolatedClassLoader = new IsolatedClassLoader(isolatedClassPath, classPathScanner.getClassLoader())) {
+                return generate(inputPackagesNames, outputDir, isolatedClassLoader);
+            }
+        } finally {
+            TypeRegistry.release(previousTypeRegistry);
+            for (ComplexTypeConverter converter : reportedConverters) {
+                converter.getConversionListener().getConversionListenerSet().remove(generationReport);
+            }
+        }
+    }
+
+    private SortedSet<TSModule> generate(Set<String> inputPackagesNames, Path outputDir, ClassLoader classLoader) throws IOException {
         Set<Class> modelClasses = new HashSet<>();
         Set<Class> restClasses = new HashSet<>();
         Set<Class> enumClasses = new HashSet<>();
         Set<String> packagesNames = new HashSet<>(inputPackagesNames);
         applyConversionExtension(packagesNames);
+        String configurationFingerprint = dependencyGraphFile != null ? getConfigurationFingerprint() : null;
 
         logger.info("Scanning model classes");
-        List<Class> loadedClasses= loadClasses(packagesNames);
-        searchClasses(loadedClasses, modelClassesCondition, modelClasses, enumClasses, logger);
+        phaseStarted("scanning");
+        if (generationReport != null && classPathScanner.isParallelScanning()) {
+            generationReport.untrackedThreadsUsed();
+        }
+        List<Class> loadedClasses= loadClasses(packagesNames, classLoader);
+        phaseFinished();
+        phaseStarted("filtering");
+        JavaTypeFilterEvaluator filterEvaluator = new JavaTypeFilterEvaluator(new JavaTypeHierarchyIndex(loadedClasses));
+        if (scanDiagnostics != null) {
+            scanDiagnostics.classesLoaded(loadedClasses, filterEvaluator, modelClassesCondition, restClassesCondition);
+        }
+        searchClasses(loadedClasses, modelClassesCondition, filterEvaluator, modelClasses, ScanDiagnostics.Verdict.MODEL, enumClasses);
         logger.info("Scanning rest controllers classes");
-        searchClasses(loadedClasses, restClassesCondition, restClasses, enumClasses, logger);
+        searchClasses(loadedClasses, restClassesCondition, filterEvaluator, restClasses, ScanDiagnostics.Verdict.REST, enumClasses);
+        logger.info(String.format("Found %d model classes, %d rest classes and %d enums", modelClasses.size(), restClasses.size(), enumClasses.size()));
 
 
         registerCustomTypesMapping(customTypeMapping);
 
-        exploreRestClasses(restClasses, modelClassesCondition, modelClasses);
-        exploreModelClasses(modelClasses, restClassesCondition);
+        if (reachableTypesOnly) {
+            Deque<Type> referencedTypes = new ArrayDeque<>();
+            Deque<Type> superTypes = new ArrayDeque<>();
+            exploreRestClasses(restClasses, referencedTypes, superTypes);
+            exploreModelClasses(referencedTypes, superTypes, packagesNames, filterEvaluator, modelClasses, enumClasses);
+        }
+        phaseFinished();
 
+        phaseStarted("mapping");
         convertModules(enumClasses, javaPackageToTsModuleConverter);
         convertModules(modelClasses, javaPackageToTsModuleConverter);
         convertModules(restClasses, javaPackageToTsModuleConverter);
 
-        convertTypes(enumClasses, javaPackageToTsModuleConverter, enumConverter);
-        if (!modelClasses.isEmpty()) {
-            if (modelClassesConverter == null) {
-                throw new IllegalStateException("Model classes converter is not set");
+        IncrementalGeneration incrementalGeneration = null;
+        Set<TSModule> upToDateModules = Collections.emptySet();
+        if (dependencyGraphFile != null) {
+            incrementalGeneration = new IncrementalGeneration(dependencyGraphFile, outputDir, classLoader, configurationFingerprint);
+            for (Set<Class> javaClasses : Arrays.asList(enumClasses, modelClasses, restClasses)) {
+                for (Class javaClass : javaClasses) {
+                    incrementalGeneration.classMapped(javaClass, javaPackageToTsModuleConverter.getTsModule(javaClass));
+                }
             }
-            convertTypes(modelClasses, javaPackageToTsModuleConverter, modelClassesConverter);
+            upToDateModules = incrementalGeneration.findUpToDateModules();
+            logger.info(String.format("%d of %d modules are up to date", upToDateModules.size(), javaPackageToTsModuleConverter.getTsModules().size()));
         }
 
-        if (!restClasses.isEmpty()) {
-            if (restClassesConverter == null) {
-                throw new IllegalStateException("Rest classes converter is not set");
+        ModuleWritePipeline moduleWritePipeline = null;
+        if (pipelinedModuleWriting) {
+            moduleWritePipeline = new ModuleWritePipeline(outputDir, logger, generateAmbientModules, generationReport);
+            for (Set<Class> javaClasses : Arrays.asList(enumClasses, modelClasses, restClasses)) {
+                for (Class javaClass : javaClasses) {
+                    if (!isUpToDate(javaClass, incrementalGeneration)) {
+                        moduleWritePipeline.classExpected(javaClass, javaPackageToTsModuleConverter.getTsModule(javaClass));
+                    }
+                }
             }
-            convertTypes(restClasses, javaPackageToTsModuleConverter, restClassesConverter);
         }
+        phaseFinished();
+        ForkJoinPool conversionPool = conversionParallelism > 1 ? new ForkJoinPool(conversionParallelism) : null;
+        try {
+            convertTypes("enums", enumClasses, javaPackageToTsModuleConverter, enumConverter, conversionPool, moduleWritePipeline, incrementalGeneration);
+            if (!modelClasses.isEmpty()) {
+                if (modelClassesConverter == null) {
+                    throw new IllegalStateException("Model classes converter is not set");
+                }
+                convertTypes("model", modelClasses, javaPackageToTsModuleConverter, modelClassesConverter, conversionPool, moduleWritePipeline, incrementalGeneration);
+            }
 
+            if (!restClasses.isEmpty()) {
+                if (restClassesConverter == null) {
+                    throw new IllegalStateException("Rest classes converter is not set");
+                }
+                convertTypes("rest", restClasses, javaPackageToTsModuleConverter, restClassesConverter, conversionPool, moduleWritePipeline, incrementalGeneration);
+            }
+        } finally {
+            if (conversionPool != null) {
+                conversionPool.shutdown();
+            }
+            if (moduleWritePipeline != null) {
+                moduleWritePipeline.close();
+            }
+        }
 
-        writeTSModules(javaPackageToTsModuleConverter.getTsModules(), outputDir, logger);
+        phaseStarted("writing");
+        SortedSet<TSModule> remainingModules = new TreeSet<>(javaPackageToTsModuleConverter.getTsModules());
+        remainingModules.removeAll(upToDateModules);
+        if (moduleWritePipeline == null) {
+            writeTSModules(remainingModules, outputDir, logger);
+        } else {
+            remainingModules.removeAll(moduleWritePipeline.getQueuedModules());
+            IOException pipelineWriteException = moduleWritePipeline.getWriteException();
+            try {
+                writeTSModules(remainingModules, outputDir, logger);
+            } catch (IOException e) {
+                if (pipelineWriteException != null) {
+                    e.addSuppressed(pipelineWriteException);
+                }
+                throw e;
+            }
+            if (pipelineWriteException != null) {
+                throw pipelineWriteException;
+            }
+        }
+        if (incrementalGeneration != null) {
+            incrementalGeneration.writeDependencyGraph(javaPackageToTsModuleConverter.getTsModules());
+        }
+        if (moduleListFile != null) {
+            deleteStaleModules(javaPackageToTsModuleConverter.getTsModules(), outputDir);
+        }
+        phaseFinished();
+        if (generationReport != null) {
+            generationReport.modulesGenerated(javaPackageToTsModuleConverter.getTsModules().size());
+        }
 
         return javaPackageToTsModuleConverter.getTsModules();
     }
@@ -191,8 +480,72 @@ public class Rest2tsGenerator {
 
     private void writeTSModules(SortedSet<TSModule> tsModuleSortedSet, Path outputDir, Logger logger) throws IOException {
         for (TSModule tsModule : tsModuleSortedSet) {
-            tsModule.writeModule(outputDir, logger);
+            tsModule.setModuleExtensionType(getModuleExtensionType(tsModule, generateAmbientModules));
+        }
+        if (moduleWriteExecutor == null) {
+            for (TSModule tsModule : tsModuleSortedSet) {
+                tsModule.writeModule(outputDir, logger);
+            }
+            return;
+        }
+
+        Map<TSModule, Future<?>> writeFutureMap = new LinkedHashMap<>();
+        for (TSModule tsModule : tsModuleSortedSet) {
+            writeFutureMap.put(tsModule, moduleWriteExecutor.submit(() -> {
+                threadStarted();
+                tsModule.writeModule(outputDir, logger);
+                return null;
+            }));
         }
+        IOException writeException = null;
+        for (Map.Entry<TSModule, Future<?>> writeFutureEntry : writeFutureMap.entrySet()) {
+            try {
+                writeFutureEntry.getValue().get();
+            } catch (ExecutionException e) {
+                IOException moduleException = new IOException(String.format("Failed to write module %s", writeFutureEntry.getKey().getName()), e.getCause());
+                if (writeException == null) {
+                    writeException = moduleException;
+                } else {
+                    writeException.addSuppressed(moduleException);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for modules to be written");
+            }
+        }
+        if (writeException != null) {
+            throw writeException;
+        }
+    }
+
+    /**
+     * Modules which contain elements are generated as normal modules `*.ts` unless ambient modules are generated
+     */
+    static ModuleExtensionType getModuleExtensionType(TSModule tsModule, boolean generateAmbientModules) {
+        if (!generateAmbientModules && !tsModule.getScopedTypesSet().isEmpty()) {
+            return ModuleExtensionType.implementation;
+        }
+        return tsModule.getModuleExtensionType();
+    }
+
+    private void deleteStaleModules(SortedSet<TSModule> tsModuleSortedSet, Path outputDir) throws IOException {
+        Set<String> moduleFiles = new TreeSet<>();
+        for (TSModule tsModule : tsModuleSortedSet) {
+            ModuleExtensionType moduleExtensionType = getModuleExtensionType(tsModule, generateAmbientModules);
+            Path tsModuleFile = outputDir.resolve(tsModule.getModuleRelativePath()).resolve(tsModule.getName() + "." + moduleExtensionType);
+            moduleFiles.add(tsModuleFile.toAbsolutePath().normalize().toString());
+        }
+        if (Files.exists(moduleListFile)) {
+            for (String previousModuleFile : Files.readAllLines(moduleListFile, StandardCharsets.UTF_8)) {
+                if (!previousModuleFile.isEmpty() && !moduleFiles.contains(previousModuleFile) && Files.deleteIfExists(Paths.get(previousModuleFile))) {
+                    logger.info(String.format("Deleted stale module %s", Paths.get(previousModuleFile).toUri()));
+                }
+            }
+        }
+        if (moduleListFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(moduleListFile.toAbsolutePath().getParent());
+        }
+        Files.write(moduleListFile, moduleFiles, StandardCharsets.UTF_8);
     }
 
     private void convertModules(Set<Class> javaClasses, JavaPackageToTsModuleConverter javaPackageToTsModuleConverter) {
@@ -201,103 +554,318 @@ public class Rest2tsGenerator {
         }
     }
 
-    private void convertTypes(Set<Class> javaTypes, JavaPackageToTsModuleConverter tsModuleSortedMap, ComplexTypeConverter complexTypeConverter) {
+    private void convertTypes(String phaseName, Set<Class> javaTypes, JavaPackageToTsModuleConverter tsModuleSortedMap, ComplexTypeConverter complexTypeConverter,
+                              ForkJoinPool conversionPool, ModuleWritePipeline moduleWritePipeline, IncrementalGeneration incrementalGeneration) {
+        phaseStarted(phaseName + ".preConverted");
         Set<Class> preConvertedTypes = new HashSet<>();
         for (Class javaType : javaTypes) {
-            if (complexTypeConverter.preConverted(tsModuleSortedMap, javaType)) {
+            GeneratorEvent conversionEvent = GeneratorEvents.classConversionStarted(javaType, complexTypeConverter, "preConverted");
+            long startNanos = System.nanoTime();
+            boolean preConverted = complexTypeConverter.preConverted(tsModuleSortedMap, javaType);
+            classConverted(javaType, startNanos);
+            conversionEvent.commit();
+            if (preConverted) {
                 preConvertedTypes.add(javaType);
+            } else if (moduleWritePipeline != null && !isUpToDate(javaType, incrementalGeneration)) {
+                moduleWritePipeline.classConverted(javaType);
             }
         }
+        phaseFinished();
 
-        for (Class javaType : preConvertedTypes) {
+        phaseStarted(phaseName + ".convertInheritance");
+        forEachType(preConvertedTypes, javaType -> {
+            GeneratorEvent conversionEvent = GeneratorEvents.classConversionStarted(javaType, complexTypeConverter, "convertInheritance");
+            long startNanos = System.nanoTime();
             complexTypeConverter.convertInheritance(javaType);
-        }
+            classConverted(javaType, startNanos);
+            conversionEvent.commit();
+        }, conversionPool);
+        phaseFinished();
 
+        phaseStarted(phaseName + ".convert");
+        Set<Class> convertedTypes = new HashSet<>();
         for (Class javaType : preConvertedTypes) {
+            if (!isUpToDate(javaType, incrementalGeneration)) {
+                convertedTypes.add(javaType);
+            }
+        }
+        Consumer<Class> conversion = javaType -> {
+            GeneratorEvent conversionEvent = GeneratorEvents.classConversionStarted(javaType, complexTypeConverter, "convert");
+            long startNanos = System.nanoTime();
             complexTypeConverter.convert(javaType, nullableTypesStrategy);
+            classConverted(javaType, startNanos);
+            conversionEvent.commit();
+            if (moduleWritePipeline != null) {
+                moduleWritePipeline.classConverted(javaType);
+            }
+        };
+        if (conversionPool != null) {
+            for (Class dependencyType : findConversionDependencies(preConvertedTypes, complexTypeConverter)) {
+                if (convertedTypes.remove(dependencyType)) {
+                    conversion.accept(dependencyType);
+                } else {
+                    complexTypeConverter.convert(dependencyType, nullableTypesStrategy);
+                }
+            }
         }
+        forEachType(convertedTypes, conversion, conversionPool);
+        phaseFinished();
+    }
+
+    /**
+     * Types which conversion of other types reads converted members of, e.g. types unwrapped by JsonUnwrapped. They
+     * are converted serially before other types are converted in parallel, so conversion running in parallel doesn't
+     * have to wait for other types
+     */
+    private Set<Class> findConversionDependencies(Set<Class> preConvertedTypes, ComplexTypeConverter complexTypeConverter) {
+        Set<Class> conversionDependencies = new LinkedHashSet<>();
+        for (Class javaType : preConvertedTypes) {
+            for (Class dependencyType : complexTypeConverter.getConversionDependencies(javaType)) {
+                if (preConvertedTypes.contains(dependencyType)) {
+                    conversionDependencies.add(dependencyType);
+                }
+            }
+        }
+        return conversionDependencies;
+    }
+
+    private boolean isUpToDate(Class javaType, IncrementalGeneration incrementalGeneration) {
+        return incrementalGeneration != null && incrementalGeneration.isUpToDate(javaType);
+    }
+
+    /**
+     * @return fingerprint of configuration which affects generated code or empty string if it can't be computed
+     */
+    private String getConfigurationFingerprint() {
+        ConfigurationDescription configurationDescription = new ConfigurationDescription();
+        configurationDescription.addCode(Rest2tsGenerator.class)
+                .add("enumConverter", enumConverter)
+                .add("modelClassesConverter", modelClassesConverter)
+                .add("restClassesConverter", restClassesConverter)
+                .add("nullableTypesStrategy", nullableTypesStrategy)
+                .add("javaPackageToTsModuleConverter", javaPackageToTsModuleConverter)
+                .add("typeMappingTable", typeMappingTable)
+                .add("customTypeMapping", customTypeMapping)
+                .add("generateAmbientModules", generateAmbientModules);
+        if (configurationDescription.getUndescribedElement() != null) {
+            logger.warn(String.format("Configuration element %s doesn't describe its configuration, all modules will be generated", configurationDescription.getUndescribedElement()));
+        }
+        return configurationDescription.computeFingerprint();
+    }
 
+    private void phaseStarted(String phaseName) {
+        if (generationReport != null) {
+            generationReport.phaseStarted(phaseName);
+        }
     }
 
-    private void exploreModelClasses(Set<Class> modelClasses, JavaTypeFilter javaTypeFilter) {
+    private void phaseFinished() {
+        if (generationReport != null) {
+            generationReport.phaseFinished();
+        }
+    }
 
+    private void threadStarted() {
+        if (generationReport != null) {
+            generationReport.threadStarted();
+        }
     }
 
-    private void exploreRestClasses(Set<Class> restClasses, JavaTypeFilter javaTypeFilter, Set<Class> modelClasses) {
+    private void classConverted(Class javaType, long startNanos) {
+        if (generationReport != null) {
+            generationReport.classConverted(javaType, System.nanoTime() - startNanos);
+        }
+    }
 
+    /**
+     * Applies conversion to each type, in parallel if pool is given. Pool threads use type registry of the generating
+     * thread, method returns when all types are converted
+     */
+    private void forEachType(Set<Class> javaTypes, Consumer<Class> conversion, ForkJoinPool conversionPool) {
+        if (conversionPool == null) {
+            javaTypes.forEach(conversion);
+            return;
+        }
+        TypeRegistry typeRegistry = TypeRegistry.current();
+        conversionPool.submit(() -> javaTypes.parallelStream().forEach(javaType -> {
+            threadStarted();
+            TypeRegistry previousTypeRegistry = TypeRegistry.bind(typeRegistry);
+            try {
+                conversion.accept(javaType);
+            } finally {
+                TypeRegistry.release(previousTypeRegistry);
+            }
+        })).join();
     }
 
-    private void searchClasses(List<Class> loadedClasses, JavaTypeFilter javaTypeFilter, Set<Class> classSet, Set<Class> enumClassSet, Logger logger) throws IOException {
+    private void exploreRestClasses(Set<Class> restClasses, Deque<Type> referencedTypes, Deque<Type> superTypes) {
+        for (Class restClass : restClasses) {
+            addSuperTypes(restClass, superTypes);
+            for (Method method : restClass.getMethods()) {
+                if (method.getDeclaringClass() != Object.class) {
+                    referencedTypes.add(method.getGenericReturnType());
+                    referencedTypes.addAll(Arrays.asList(method.getGenericParameterTypes()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps only model classes and enums reachable from given types, model classes which are not accepted by model
+     * classes condition are not explored. Subtypes are explored only for referenced types, not for super types
+     */
+    private void exploreModelClasses(Deque<Type> referencedTypes, Deque<Type> superTypes, Set<String> packagesNames,
+                                     JavaTypeFilterEvaluator filterEvaluator, Set<Class> modelClasses, Set<Class> enumClasses) {
+        Set<Class> candidateModelClasses = new HashSet<>(modelClasses);
+        Set<Type> exploredReferencedTypes = new HashSet<>();
+        Set<Type> exploredSuperTypes = new HashSet<>();
+        modelClasses.clear();
+        enumClasses.clear();
+        while (!referencedTypes.isEmpty() || !superTypes.isEmpty()) {
+            boolean referenced = !referencedTypes.isEmpty();
+            Type type = referenced ? referencedTypes.poll() : superTypes.poll();
+            if (!(referenced ? exploredReferencedTypes : exploredSuperTypes).add(type)) {
+                continue;
+            }
+            if (type instanceof Class) {
+                Class javaClass = (Class) type;
+                if (javaClass.isArray()) {
+                    referencedTypes.add(javaClass.getComponentType());
+                } else if (Enum.class.isAssignableFrom(javaClass)) {
+                    if (isInPackages(javaClass, packagesNames) && enumClasses.add(javaClass) && scanDiagnostics != null) {
+                        scanDiagnostics.record(ScanDiagnostics.Verdict.REACHABLE, javaClass);
+                    }
+                } else if (candidateModelClasses.contains(javaClass)) {
+                    if (modelClasses.add(javaClass)) {
+                        if (scanDiagnostics != null) {
+                            scanDiagnostics.record(ScanDiagnostics.Verdict.REACHABLE, javaClass);
+                        }
+                        addSuperTypes(javaClass, superTypes);
+                        addPropertiesTypes(javaClass, referencedTypes);
+                    }
+                    if (referenced) {
+                        for (Class candidateModelClass : candidateModelClasses) {
+                            if (filterEvaluator.getHierarchyIndex().isSubType(javaClass, candidateModelClass)) {
+                                referencedTypes.add(candidateModelClass);
+                            }
+                        }
+                    }
+                }
+            } else if (type instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                (referenced ? referencedTypes : superTypes).add(parameterizedType.getRawType());
+                referencedTypes.addAll(Arrays.asList(parameterizedType.getActualTypeArguments()));
+            } else if (type instanceof GenericArrayType) {
+                referencedTypes.add(((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof WildcardType) {
+                WildcardType wildcardType = (WildcardType) type;
+                referencedTypes.addAll(Arrays.asList(wildcardType.getUpperBounds()));
+                referencedTypes.addAll(Arrays.asList(wildcardType.getLowerBounds()));
+            } else if (type instanceof TypeVariable) {
+                referencedTypes.addAll(Arrays.asList(((TypeVariable) type).getBounds()));
+            }
+        }
+    }
+
+    private void addSuperTypes(Class javaClass, Deque<Type> superTypes) {
+        if (javaClass.getGenericSuperclass() != null) {
+            superTypes.add(javaClass.getGenericSuperclass());
+        }
+        superTypes.addAll(Arrays.asList(javaClass.getGenericInterfaces()));
+    }
+
+    private void addPropertiesTypes(Class javaClass, Deque<Type> referencedTypes) {
+        for (Field field : javaClass.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                referencedTypes.add(field.getGenericType());
+            }
+        }
+        for (Method method : javaClass.getDeclaredMethods()) {
+            if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() <= 1) {
+                referencedTypes.add(method.getGenericReturnType());
+                referencedTypes.addAll(Arrays.asList(method.getGenericParameterTypes()));
+            }
+        }
+    }
+
+    private boolean isInPackages(Class javaClass, Set<String> packagesNames) {
+        for (String packageName : packagesNames) {
+            if (javaClass.getName().startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void searchClasses(List<Class> loadedClasses, JavaTypeFilter javaTypeFilter, JavaTypeFilterEvaluator filterEvaluator,
+                               Set<Class> classSet, ScanDiagnostics.Verdict acceptedVerdict, Set<Class> enumClassSet) {
         for (Class foundClass : loadedClasses) {
-            logger.info(String.format("Found class : %s", foundClass.getName()));
             if (Enum.class.isAssignableFrom(foundClass)) {
-                logger.info(String.format("Found enum class : %s", foundClass.getName()));
                 enumClassSet.add(foundClass);
+                if (scanDiagnostics != null) {
+                    scanDiagnostics.record(ScanDiagnostics.Verdict.ENUM, foundClass);
+                }
                 continue;
             }
 
-            if (javaTypeFilter.accept(foundClass)) {
+            GeneratorEvent filterEvent = GeneratorEvents.filterEvaluationStarted(foundClass, acceptedVerdict.name());
+            boolean accepted = filterEvaluator.accept(javaTypeFilter, foundClass);
+            filterEvent.commit();
+            if (accepted) {
                 classSet.add(foundClass);
-            }else{
-                logger.warn(String.format("Class filtered out : %s", foundClass.getSimpleName()));
+                if (scanDiagnostics != null) {
+                    scanDiagnostics.record(acceptedVerdict, foundClass);
+                }
             }
-            javaTypeFilter.explain(foundClass, logger, "");
         }
     }
 
 
-    private List<Class> loadClasses(Set<String> packageSet) throws IOException {
-        ClassLoader classLoader = this.getClass().getClassLoader();
+    private List<Class> loadClasses(Set<String> packageSet, ClassLoader classLoader) throws IOException {
+        JavaTypeFilter candidateClassesCondition = new OrFilterOperator(Arrays.asList(modelClassesCondition, restClassesCondition));
+        // all enums are converted unless reachable types are explored, so enums could not be rejected by name
+        Predicate<String> classNameFilter = className -> {
+            if (!reachableTypesOnly || candidateClassesCondition.filterByName(className) != FilterVerdict.REJECTED) {
+                return true;
+            }
+            if (scanDiagnostics != null) {
+                scanDiagnostics.classRejectedBeforeLoading(className);
+            }
+            return false;
+        };
+        GeneratorEvent scanEvent = GeneratorEvents.classPathScanStarted(packageSet);
+        List<ClassFileInfo> classFileInfoList = classPathScanner.scan(classLoader, packageSet, classNameFilter);
+        scanEvent.commit();
+        ClassFileHierarchy classFileHierarchy = new ClassFileHierarchy(classLoader, classFileInfoList);
 
         List<Class> classList = new ArrayList<>();
-        for (String packageName : packageSet) {
-            Enumeration<URL> urlEnumeration = classLoader.getResources(packageName.replace(".", "/"));
-            while (urlEnumeration.hasMoreElements()) {
-                URL url = urlEnumeration.nextElement();
-                URI uri = null;
-                try {
-                    uri = url.toURI();
-                } catch (URISyntaxException e) {
-                    throw new IllegalStateException(e);
+        for (ClassFileInfo classFileInfo : classFileInfoList) {
+            if (classFileInfo.isParsed()) {
+                if (classFileInfo.isAnnotation()) {
+                    continue;
                 }
-                try {
-                    FileSystems.newFileSystem(uri, Collections.emptyMap());} catch (Exception ignore) {}
-                    Path path = Paths.get(uri);
-                    scanPackagesRecursively(classLoader, path, packageName, classList);
-            }
-        }
-        return classList;
-    }
-
-    private void scanPackagesRecursively(ClassLoader classLoader, Path currentPath, String packageName, List<Class> classList) throws IOException {
-        for (Path nextPath : Files.newDirectoryStream(currentPath)) {
-            if (Files.isDirectory(nextPath)) {
-                scanPackagesRecursively(classLoader, nextPath, packageName+"."+nextPath.getFileName(), classList);
-            } else {
-                if (nextPath.toString().endsWith(".class")) {
-                    String className = (packageName + "/" + nextPath.getFileName().toString()).replace(".class", "").replace("/", ".");
-                    try {
-                        Class<?> loadedClass = classLoader.loadClass(className);
-                        loadedClass.getSimpleName();
-                        if (!loadedClass.isAnnotation()) {
-                            addNestedClasses(loadedClass.getDeclaredClasses(), classList);
-                            classList.add(loadedClass);
-                        }
-                    } catch (Error | Exception e) {
-                        System.out.println(String.format("Failed to load class %s due to error %s:%s", className, e.getClass().getSimpleName(), e.getMessage()));
+                if ((reachableTypesOnly || !classFileHierarchy.couldBeEnum(classFileInfo))
+                        && candidateClassesCondition.preFilter(classFileInfo, classFileHierarchy) == FilterVerdict.REJECTED) {
+                    if (scanDiagnostics != null) {
+                        scanDiagnostics.classRejectedBeforeLoading(classFileInfo.getClassName());
                     }
+                    continue;
                 }
             }
-        }
-    }
-
-    private void addNestedClasses(Class<?>[] nestedClasses, List<Class> classList) {
-        for (Class<?> nestedClass : nestedClasses) {
-            if (!nestedClass.isAnnotation()) {
-                classList.add(nestedClass);
+            String className = classFileInfo.getClassName();
+            GeneratorEvent loadEvent = GeneratorEvents.classLoadStarted(className);
+            try {
+                Class<?> loadedClass = Class.forName(className, false, classLoader);
+                loadedClass.getSimpleName();
+                if (!loadedClass.isAnnotation()) {
+                    classList.add(loadedClass);
+                }
+                loadEvent.commit();
+            } catch (Error | Exception e) {
+                System.out.println(String.format("Failed to load class %s due to error %s:%s", className, e.getClass().getSimpleName(), e.getMessage()));
             }
-            addNestedClasses(nestedClass.getDeclaredClasses(), classList);
         }
+        return classList;
     }
 
 }
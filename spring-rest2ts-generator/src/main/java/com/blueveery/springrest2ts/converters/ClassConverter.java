@@ -1,5 +1,6 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
 import com.blueveery.springrest2ts.extensions.ConversionExtension;
 import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
 import com.blueveery.springrest2ts.naming.ClassNameMapper;
@@ -21,4 +22,10 @@ public abstract class ClassConverter<C extends ConversionExtension> extends Comp
     public List<C> getConversionExtensionList() {
         return conversionExtensionList;
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        super.describeConfiguration(configurationDescription);
+        configurationDescription.add("conversionExtensionList", conversionExtensionList);
+    }
 }
@@ -0,0 +1,46 @@
+package com.blueveery.springrest2ts.converters;
+
+import java.util.*;
+
+/**
+ * Properties read for classes, shared by all model converters and generations. Properties are kept per class and
+ * configuration token of object mapper, see {@link ObjectMapper#getConfigurationToken()}. Tokens are weakly referenced,
+ * so properties read by mapper which was reconfigured or discarded are released
+ */
+class ClassPropertiesCache {
+    private static volatile ClassValue<Map<Object, SortedSet<Property>>> classProperties = createClassProperties();
+
+    private ClassPropertiesCache() {
+    }
+
+    static SortedSet<Property> get(Class javaClass, ObjectMapper objectMapper, PropertiesReader propertiesReader) {
+        Object configurationToken = objectMapper.getConfigurationToken();
+        Map<Object, SortedSet<Property>> tokenProperties = classProperties.get(javaClass);
+        SortedSet<Property> propertySet = tokenProperties.get(configurationToken);
+        if (propertySet == null) {
+            propertySet = Collections.unmodifiableSortedSet(propertiesReader.read(javaClass, objectMapper));
+            SortedSet<Property> presentPropertySet = tokenProperties.putIfAbsent(configurationToken, propertySet);
+            if (presentPropertySet != null) {
+                propertySet = presentPropertySet;
+            }
+        }
+        return propertySet;
+    }
+
+    static void clear() {
+        classProperties = createClassProperties();
+    }
+
+    private static ClassValue<Map<Object, SortedSet<Property>>> createClassProperties() {
+        return new ClassValue<Map<Object, SortedSet<Property>>>() {
+            @Override
+            protected Map<Object, SortedSet<Property>> computeValue(Class<?> javaClass) {
+                return Collections.synchronizedMap(new WeakHashMap<>());
+            }
+        };
+    }
+
+    interface PropertiesReader {
+        SortedSet<Property> read(Class javaClass, ObjectMapper objectMapper);
+    }
+}
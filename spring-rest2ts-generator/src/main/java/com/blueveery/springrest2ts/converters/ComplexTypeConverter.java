@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
 import com.blueveery.springrest2ts.naming.ClassNameMapper;
 import com.blueveery.springrest2ts.naming.NoChangeClassNameMapper;
@@ -14,11 +16,12 @@ import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Created by tomaszw on 31.07.2017.
  */
-public abstract class ComplexTypeConverter {
+public abstract class ComplexTypeConverter implements DescribedConfiguration {
     protected static Logger logger = LoggerFactory.getLogger("gen-logger");
     protected DispatcherConversionListener conversionListener = new DispatcherConversionListener();
     protected ImplementationGenerator implementationGenerator;
@@ -84,4 +87,19 @@ public abstract class ComplexTypeConverter {
     public void convertInheritance(Class javaType){
 
     }
+
+    /**
+     * @return java classes which conversion of given class reads converted members of, they are converted before
+     * other classes when classes are converted in parallel
+     */
+    public Set<Class> getConversionDependencies(Class javaClass) {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("implementationGenerator", implementationGenerator)
+                .add("classNameMapper", classNameMapper)
+                .add("conversionListener", conversionListener);
+    }
 }
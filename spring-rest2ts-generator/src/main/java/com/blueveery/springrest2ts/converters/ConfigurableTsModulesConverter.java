@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.tsmodel.TSModule;
 
 import java.util.Map;
@@ -9,7 +11,7 @@ import java.util.TreeSet;
 /**
  * Created by tomaszw on 03.08.2017.
  */
-public class ConfigurableTsModulesConverter implements JavaPackageToTsModuleConverter {
+public class ConfigurableTsModulesConverter implements JavaPackageToTsModuleConverter, DescribedConfiguration {
     private TsModuleCreatorConverter tsModuleCreatorConverter;
     private Map<String, TSModule> packagesMap;
     private SortedSet<TSModule> tsModuleSortedSet = new TreeSet<>();
@@ -52,4 +54,10 @@ public class ConfigurableTsModulesConverter implements JavaPackageToTsModuleConv
 
         return tsModule;
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("tsModuleCreatorConverter", tsModuleCreatorConverter)
+                .add("packagesMap", packagesMap);
+    }
 }
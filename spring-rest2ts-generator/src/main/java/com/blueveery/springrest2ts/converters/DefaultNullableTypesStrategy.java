@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.tsmodel.INullableElement;
 
 import javax.annotation.Nullable;
@@ -8,7 +10,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Optional;
 
-public class DefaultNullableTypesStrategy implements NullableTypesStrategy {
+public class DefaultNullableTypesStrategy implements NullableTypesStrategy, DescribedConfiguration {
     private boolean useOptional = true;
     private boolean useNullableAnnotation = true;
     private boolean usePrimitiveTypesWrappers = true;
@@ -40,40 +42,61 @@ public class DefaultNullableTypesStrategy implements NullableTypesStrategy {
     @Override
     public void setAsNullableType(Type elementType, Annotation[] declaredAnnotations, INullableElement tsElement) {
         if(!tsElement.isNullable()){
-
-            if (useOptional) {
-                if (elementType instanceof ParameterizedType) {
-                    ParameterizedType parameterizedType = (ParameterizedType) elementType;
-                    if(Optional.class == parameterizedType.getRawType()){
-                        tsElement.setNullable(true);
-                        return;
-                    }
-                }
-            }
-
+            boolean annotatedAsNullable = false;
             if (useNullableAnnotation) {
                 for (Annotation annotation : declaredAnnotations) {
                     if (annotation instanceof Nullable ) {
-                        tsElement.setNullable(true);
-                        return;
+                        annotatedAsNullable = true;
+                        break;
                     }
                 }
             }
+            setAsNullableType(elementType, annotatedAsNullable, tsElement);
+        }
+    }
 
-            if (usePrimitiveTypesWrappers) {
-                if(elementType instanceof Class) {
-                    Class elementClass = (Class) elementType;
-                    if (Number.class.isAssignableFrom(elementClass)) {
-                        tsElement.setNullable(true);
-                        return;
-                    }
+    @Override
+    public void setAsNullableType(Type elementType, Property property, INullableElement tsElement) {
+        if(!tsElement.isNullable()){
+            setAsNullableType(elementType, useNullableAnnotation && property.getDeclaredAnnotation(Nullable.class) != null, tsElement);
+        }
+    }
+
+    private void setAsNullableType(Type elementType, boolean annotatedAsNullable, INullableElement tsElement) {
+        if (useOptional) {
+            if (elementType instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) elementType;
+                if(Optional.class == parameterizedType.getRawType()){
+                    tsElement.setNullable(true);
+                    return;
                 }
+            }
+        }
+
+        if (annotatedAsNullable) {
+            tsElement.setNullable(true);
+            return;
+        }
 
-                if(Boolean.class == elementType){
+        if (usePrimitiveTypesWrappers) {
+            if(elementType instanceof Class) {
+                Class elementClass = (Class) elementType;
+                if (Number.class.isAssignableFrom(elementClass)) {
                     tsElement.setNullable(true);
                     return;
                 }
             }
+
+            if(Boolean.class == elementType){
+                tsElement.setNullable(true);
+            }
         }
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("useOptional", useOptional)
+                .add("useNullableAnnotation", useNullableAnnotation)
+                .add("usePrimitiveTypesWrappers", usePrimitiveTypesWrappers);
+    }
 }
@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.tsmodel.TSField;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
 import com.blueveery.springrest2ts.tsmodel.TSParameter;
@@ -10,7 +12,7 @@ import java.lang.reflect.Parameter;
 import java.util.HashSet;
 import java.util.Set;
 
-public class DispatcherConversionListener implements ConversionListener {
+public class DispatcherConversionListener implements ConversionListener, DescribedConfiguration {
 
     private Set<ConversionListener> conversionListenerSet = new HashSet<>();
 
@@ -37,4 +39,9 @@ public class DispatcherConversionListener implements ConversionListener {
     public void tsParameterCreated(Parameter parameter, TSParameter tsParameter) {
         conversionListenerSet.forEach(l -> l.tsParameterCreated(parameter, tsParameter));
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("conversionListenerSet", conversionListenerSet);
+    }
 }
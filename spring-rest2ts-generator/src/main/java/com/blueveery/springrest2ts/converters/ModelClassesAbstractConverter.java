@@ -1,5 +1,6 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
 import com.blueveery.springrest2ts.extensions.ModelConversionExtension;
 import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
 import com.blueveery.springrest2ts.naming.ClassNameMapper;
@@ -9,10 +10,12 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class ModelClassesAbstractConverter extends ClassConverter<ModelConversionExtension>{
     protected ObjectMapper defaultObjectMapper;
     private Map<String, ObjectMapper> objectMapperMap = new HashMap<>();
+    private Map<String, ObjectMapper> packageObjectMapperMap = new ConcurrentHashMap<>();
 
     public ModelClassesAbstractConverter(ImplementationGenerator implementationGenerator, ObjectMapper objectMapper) {
         super(implementationGenerator);
@@ -24,12 +27,35 @@ public abstract class ModelClassesAbstractConverter extends ClassConverter<Model
         this.defaultObjectMapper = objectMapper;
     }
 
+    /**
+     * Object mappers selected for packages are cached until the map is obtained again for modification
+     */
     public Map<String, ObjectMapper> getObjectMapperMap() {
+        packageObjectMapperMap.clear();
         return objectMapperMap;
     }
 
+    /**
+     * Clears properties read for classes by all converters, it is needed only if object mapper is reconfigured without
+     * change of its configuration token, see {@link ObjectMapper#getConfigurationToken()}
+     */
+    public static void clearClassPropertiesCache() {
+        ClassPropertiesCache.clear();
+    }
+
     protected ObjectMapper selectObjectMapper(Class javaClass) {
         String packageName = javaClass.getPackage().getName();
+        ObjectMapper selectedObjectMapper = packageObjectMapperMap.get(packageName);
+        if (selectedObjectMapper == null) {
+            selectedObjectMapper = findObjectMapper(packageName);
+            if (selectedObjectMapper != null) {
+                packageObjectMapperMap.put(packageName, selectedObjectMapper);
+            }
+        }
+        return selectedObjectMapper;
+    }
+
+    private ObjectMapper findObjectMapper(String packageName) {
         do{
             ObjectMapper objectMapper = objectMapperMap.get(packageName);
             if (objectMapper != null) {
@@ -40,18 +66,36 @@ public abstract class ModelClassesAbstractConverter extends ClassConverter<Model
         return defaultObjectMapper;
     }
 
+    @Override
+    public Set<Class> getConversionDependencies(Class javaClass) {
+        ObjectMapper objectMapper = selectObjectMapper(javaClass);
+        Set<Class> conversionDependencies = new HashSet<>();
+        for (Property property : getClassProperties(javaClass, objectMapper)) {
+            conversionDependencies.addAll(objectMapper.getConversionDependencies(property));
+        }
+        return conversionDependencies;
+    }
+
     protected void setAsNullableType(Property property, TSField tsField, NullableTypesStrategy nullableTypesStrategy) {
         if (property.getGetterType() != null) {
-            nullableTypesStrategy.setAsNullableType(property.getGetterType(), property.getDeclaredAnnotations(), tsField);
+            nullableTypesStrategy.setAsNullableType(property.getGetterType(), property, tsField);
             return;
         }
 
         if (property.getSetterType() != null && Objects.equals(property.getGetterType(), property.getSetterType())) {
-            nullableTypesStrategy.setAsNullableType(property.getSetterType(), property.getDeclaredAnnotations(), tsField);
+            nullableTypesStrategy.setAsNullableType(property.getSetterType(), property, tsField);
         }
     }
 
+    /**
+     * Properties are read once per class and configuration of object mapper, they are shared by all converters and
+     * generations
+     */
     protected SortedSet<Property> getClassProperties(Class javaClass, ObjectMapper objectMapper) {
+        return ClassPropertiesCache.get(javaClass, objectMapper, this::readClassProperties);
+    }
+
+    private SortedSet<Property> readClassProperties(Class javaClass, ObjectMapper objectMapper) {
         Map<String, Property> propertyMap = new HashMap<>();
         int currentIndex = 0;
 
@@ -96,4 +140,11 @@ public abstract class ModelClassesAbstractConverter extends ClassConverter<Model
     private boolean couldBeSetter(Method method) {
         return method.getParameterCount() == 1 && method.getReturnType() == void.class;
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        super.describeConfiguration(configurationDescription);
+        configurationDescription.add("defaultObjectMapper", defaultObjectMapper)
+                .add("objectMapperMap", objectMapperMap);
+    }
 }
@@ -7,4 +7,8 @@ import java.lang.reflect.Type;
 
 public interface NullableTypesStrategy {
     void setAsNullableType(Type elementType, Annotation[] declaredAnnotations, INullableElement tsElement);
+
+    default void setAsNullableType(Type elementType, Property property, INullableElement tsElement) {
+        setAsNullableType(elementType, property.getDeclaredAnnotations(), tsElement);
+    }
 }
@@ -7,7 +7,9 @@ import com.blueveery.springrest2ts.tsmodel.TSField;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 public interface ObjectMapper {
     List<TSField> addTypeLevelSpecificFields(Class javaType, TSComplexElement tsComplexType);
@@ -26,4 +28,20 @@ public interface ObjectMapper {
     String getPropertyName(Method method, boolean isGetter);
 
     void setIfIsIgnored(Property property, AnnotatedElement annotatedElement);
+
+    /**
+     * @return java classes which are converted by mapping of given property because their converted members are read
+     */
+    default Set<Class> getConversionDependencies(Property property) {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Properties read by mapper are cached per class and this token, mapper must return token which isn't equal to
+     * previous one whenever its configuration changes and keep reference to the current token. Mappers with equal
+     * tokens share read properties
+     */
+    default Object getConfigurationToken() {
+        return this;
+    }
 }
@@ -6,8 +6,7 @@ import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 public class Property implements Comparable<Property>{
     private String name;
@@ -17,6 +16,7 @@ public class Property implements Comparable<Property>{
     private Method setter;
     private boolean isIgnored;
     private Class<?> declaringClass;
+    private volatile AnnotationIndex annotationIndex;
 
     public Property(String name, int index) {
         this.name = name;
@@ -44,6 +44,7 @@ public class Property implements Comparable<Property>{
 
     public void setGetter(Method getter) {
         this.getter = getter;
+        annotationIndex = null;
         declaringClass = getter.getDeclaringClass();
     }
 
@@ -53,6 +54,7 @@ public class Property implements Comparable<Property>{
 
     public void setSetter(Method setter) {
         this.setter = setter;
+        annotationIndex = null;
         declaringClass = setter.getDeclaringClass();
     }
 
@@ -91,53 +93,24 @@ public class Property implements Comparable<Property>{
     }
 
     public <A extends Annotation> A getDeclaredAnnotation(Class<A> annotationClass) {
-        A requiredAnnotation = null;
-        if (getter != null) {
-            requiredAnnotation = getter.getDeclaredAnnotation(annotationClass);
-            if (requiredAnnotation != null) {
-                return requiredAnnotation;
-            }
-        }
-
-        if (setter != null) {
-            requiredAnnotation = setter.getDeclaredAnnotation(annotationClass);
-            if (requiredAnnotation != null) {
-                return requiredAnnotation;
-            }
-            requiredAnnotation = setter.getParameters()[0].getDeclaredAnnotation(annotationClass);
-            if (requiredAnnotation != null) {
-                return requiredAnnotation;
-            }
-        }
-        if (field != null) {
-            return field.getDeclaredAnnotation(annotationClass);
-        }
-        return null;
+        return annotationClass.cast(getAnnotationIndex().annotationMap.get(annotationClass));
     }
 
-
+    /**
+     * @return copy of annotations of getter, setter, setter parameter and field in that order, single annotation
+     * should be looked up with {@link #getDeclaredAnnotation(Class)} which doesn't copy
+     */
     public Annotation[] getDeclaredAnnotations() {
-        List<Annotation> annotationList = new ArrayList<>();
-        if (getter != null) {
-            for (Annotation annotation : getter.getDeclaredAnnotations()) {
-                annotationList.add(annotation);
-            }
-        }
+        return getAnnotationIndex().declaredAnnotations.clone();
+    }
 
-        if (setter != null) {
-            for (Annotation annotation : setter.getDeclaredAnnotations()) {
-                annotationList.add(annotation);
-            }
-            for (Annotation annotation : setter.getParameters()[0].getDeclaredAnnotations()) {
-                annotationList.add(annotation);
-            }
-        }
-        if (field != null) {
-            for (Annotation annotation : field.getDeclaredAnnotations()) {
-                annotationList.add(annotation);
-            }
+    private AnnotationIndex getAnnotationIndex() {
+        AnnotationIndex currentAnnotationIndex = annotationIndex;
+        if (currentAnnotationIndex == null) {
+            currentAnnotationIndex = new AnnotationIndex(getter, setter, field);
+            annotationIndex = currentAnnotationIndex;
         }
-        return annotationList.toArray(new Annotation[annotationList.size()]);
+        return currentAnnotationIndex;
     }
 
     public Class<?> getDeclaringClass(){
@@ -148,4 +121,35 @@ public class Property implements Comparable<Property>{
     public int compareTo(Property otherProperty) {
         return index - otherProperty.index;
     }
+
+    /**
+     * Annotations of property elements built once, the first annotation of given type in declaration order is indexed
+     */
+    private static class AnnotationIndex {
+        private final Annotation[] declaredAnnotations;
+        private final Map<Class<? extends Annotation>, Annotation> annotationMap;
+
+        AnnotationIndex(Method getter, Method setter, Field field) {
+            List<Annotation> annotationList = new ArrayList<>();
+            if (getter != null) {
+                Collections.addAll(annotationList, getter.getDeclaredAnnotations());
+            }
+            if (setter != null) {
+                Collections.addAll(annotationList, setter.getDeclaredAnnotations());
+                Collections.addAll(annotationList, setter.getParameters()[0].getDeclaredAnnotations());
+            }
+            if (field != null) {
+                Collections.addAll(annotationList, field.getDeclaredAnnotations());
+            }
+            declaredAnnotations = annotationList.toArray(new Annotation[0]);
+            if (declaredAnnotations.length == 0) {
+                annotationMap = Collections.emptyMap();
+                return;
+            }
+            annotationMap = new HashMap<>();
+            for (Annotation annotation : declaredAnnotations) {
+                annotationMap.putIfAbsent(annotation.annotationType(), annotation);
+            }
+        }
+    }
 }
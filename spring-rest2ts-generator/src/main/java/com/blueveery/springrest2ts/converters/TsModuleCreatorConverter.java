@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.tsmodel.TSModule;
 
 import java.nio.file.Paths;
@@ -11,7 +13,7 @@ import java.util.TreeSet;
 /**
  * Created by tomaszw on 03.08.2017.
  */
-public class TsModuleCreatorConverter implements JavaPackageToTsModuleConverter {
+public class TsModuleCreatorConverter implements JavaPackageToTsModuleConverter, DescribedConfiguration {
     private int numberOfSubPackages;
     private Map<String, TSModule> packagesMap = new HashMap<>();
     private SortedSet<TSModule> tsModuleSortedSet = new TreeSet<>();
@@ -49,4 +51,9 @@ public class TsModuleCreatorConverter implements JavaPackageToTsModuleConverter
         }
         return tsModule;
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("numberOfSubPackages", numberOfSubPackages);
+    }
 }
@@ -15,24 +15,39 @@ import java.util.*;
  * Created by tomaszw on 30.07.2017.
  */
 public class TypeMapper {
-    public static TSType tsVoid = new TSSimpleType("void");
-    public static TSType tsNumber = new TSSimpleType("number");
-    public static TSType tsString = new TSSimpleType("string");
-    public static TSType tsBoolean  = new TSSimpleType("boolean");
-    public static TSType tsDate  = new TSSimpleType("Date");
-    public static TSType tsObject  = new TSSimpleType("Object");
-    public static TSType tsAny = new TSSimpleType("any");
-    public static TSType tsNull = new TSSimpleType("null");
-    public static TSType tsUndefined = new TSSimpleType("undefined");
-    public static TSModule systemModule = new TSModule("system", Paths.get(""), true);
-
-    private static Map<Class, TSType> complexTypeMap = new HashMap<>();
+    public static final TSType tsVoid = new TSSimpleType("void");
+    public static final TSType tsNumber = new TSSimpleType("number");
+    public static final TSType tsString = new TSSimpleType("string");
+    public static final TSType tsBoolean  = new TSSimpleType("boolean");
+    public static final TSType tsDate  = new TSSimpleType("Date");
+    public static final TSType tsObject  = new TSSimpleType("Object");
+    public static final TSType tsAny = new TSSimpleType("any");
+    public static final TSType tsNull = new TSSimpleType("null");
+    public static final TSType tsUndefined = new TSSimpleType("undefined");
+    public static final TSModule systemModule = new TSModule("system", Paths.get(""), true);
 
     public static TSType map(Type javaType){
         return map(javaType, tsAny);
     }
 
+    /**
+     * Types mapped with default fallback type are cached in current {@link TypeRegistry}, so the same reference is
+     * returned for structurally equal java types until new type is registered
+     */
     public static TSType map(Type javaType, TSType fallbackType){
+        if (fallbackType != tsAny) {
+            return mapType(javaType, fallbackType);
+        }
+        TypeRegistry typeRegistry = TypeRegistry.current();
+        TSType tsType = typeRegistry.findMapped(javaType);
+        if (tsType == null) {
+            tsType = mapType(javaType, fallbackType);
+            typeRegistry.putMapped(javaType, tsType);
+        }
+        return tsType;
+    }
+
+    private static TSType mapType(Type javaType, TSType fallbackType){
         if (javaType instanceof TypeVariable) {
             TypeVariable typeVariable = (TypeVariable) javaType;
             return new TSFormalTypeParameter(typeVariable.getName());
@@ -45,8 +60,9 @@ public class TypeMapper {
             actualParameterList = mapActualTypeArguments(actualParameterList, parameterizedType);
         }
 
-        if(complexTypeMap.containsKey(javaRawType)){
-            TSType tsType = complexTypeMap.get(javaRawType);
+        TypeRegistry typeRegistry = TypeRegistry.current();
+        TSType tsType = javaRawType instanceof Class ? typeRegistry.find((Class) javaRawType) : null;
+        if(tsType != null){
             if (tsType instanceof TSInterface) {
                 TSInterface tsInterface = (TSInterface) tsType;
                 return new TSInterfaceReference(tsInterface, actualParameterList);
@@ -58,47 +74,17 @@ public class TypeMapper {
             return tsType;
         }
 
-        if(Object.class == javaRawType){
-            return tsObject;
-        }
-        if (void.class == javaRawType || Void.class == javaRawType) {
-            return tsVoid;
-        }
-        if(String.class == javaRawType || char.class == javaRawType || Character.class == javaRawType){
-            return tsString;
-        }
-        if(boolean.class == javaRawType || Boolean.class == javaRawType){
-            return tsBoolean;
-        }
         if(javaRawType instanceof Class){
             Class javaClass = (Class) javaRawType;
-            if(Number.class.isAssignableFrom(javaClass)){
-                return tsNumber;
-            }
-            if(javaClass.isAssignableFrom(Date.class)){
-                return tsDate;
-            }
             if(javaClass.isArray()){
                 return new TSArray(TypeMapper.map(javaClass.getComponentType()));
             }
-
-            if(javaClass.isPrimitive()){
-                return tsNumber;
-            }
-        }
-
-        if(javaType instanceof ParameterizedType){
-            ParameterizedType javaParameterizedType = (ParameterizedType) javaType;
-            if(Collection.class.isAssignableFrom((Class<?>) javaParameterizedType.getRawType())){
-                return new TSArray(TypeMapper.map(javaParameterizedType.getActualTypeArguments()[0], fallbackType));
-            }
-
-            if(Map.class.isAssignableFrom((Class<?>) javaParameterizedType.getRawType())){
-                return new TSMap(TypeMapper.map(javaParameterizedType.getActualTypeArguments()[1], fallbackType));
-            }
-
-            if(Optional.class == javaParameterizedType.getRawType()){
-                return TypeMapper.map(javaParameterizedType.getActualTypeArguments()[0], fallbackType);
+            TypeMappingRule typeMappingRule = typeRegistry.getTypeMappingTable().resolve(javaClass);
+            if (typeMappingRule != null) {
+                TSType mappedType = typeMappingRule.map(javaType, fallbackType);
+                if (mappedType != null) {
+                    return mappedType;
+                }
             }
         }
 
@@ -117,13 +103,7 @@ public class TypeMapper {
     }
 
     public static void registerTsType(Class javaType, TSType tsType){
-        if(!complexTypeMap.containsKey(javaType)){
-            complexTypeMap.put(javaType, tsType);
-        }
-        if (tsType instanceof TSScopedElement) {
-            TSScopedElement tsScopedElement = (TSScopedElement) tsType;
-            tsScopedElement.getMappedFromJavaTypeSet().add(javaType);
-        }
+        TypeRegistry.current().register(javaType, tsType);
     }
 }
 
@@ -0,0 +1,16 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.tsmodel.TSType;
+
+import java.lang.reflect.Type;
+
+/**
+ * Maps java type to TypeScript type, rules are registered in {@link TypeMappingTable} for raw java classes
+ */
+public interface TypeMappingRule {
+    /**
+     * @param javaType class or parameterized type which raw class matched the rule
+     * @return mapped type or null if rule doesn't apply to given java type
+     */
+    TSType map(Type javaType, TSType fallbackType);
+}
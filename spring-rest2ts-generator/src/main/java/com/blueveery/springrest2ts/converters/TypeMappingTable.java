@@ -0,0 +1,132 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
+import com.blueveery.springrest2ts.tsmodel.TSArray;
+import com.blueveery.springrest2ts.tsmodel.TSMap;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.*;
+
+/**
+ * Type mapping rules dispatched by raw java class. Rule registered with {@link #register(Class, TypeMappingRule)}
+ * applies also to subtypes of given class, rule registered with {@link #registerExact(Class, TypeMappingRule)} applies
+ * only to given class. For each class exact rule is used first, then rule of the nearest super type. Resolved rules
+ * are cached per class until table is changed
+ */
+public class TypeMappingTable implements DescribedConfiguration {
+    private static final TypeMappingRule NO_RULE = (javaType, fallbackType) -> null;
+
+    private final Map<Class, TypeMappingRule> exactRuleMap = new HashMap<>();
+    private final Map<Class, TypeMappingRule> ruleMap = new HashMap<>();
+    private volatile ClassValue<TypeMappingRule> resolvedRules = createResolvedRules();
+
+    public TypeMappingTable() {
+        registerExact(Object.class, (javaType, fallbackType) -> TypeMapper.tsObject);
+        for (Class voidClass : Arrays.asList(void.class, Void.class)) {
+            registerExact(voidClass, (javaType, fallbackType) -> TypeMapper.tsVoid);
+        }
+        for (Class stringClass : Arrays.asList(String.class, char.class, Character.class)) {
+            registerExact(stringClass, (javaType, fallbackType) -> TypeMapper.tsString);
+        }
+        for (Class booleanClass : Arrays.asList(boolean.class, Boolean.class)) {
+            registerExact(booleanClass, (javaType, fallbackType) -> TypeMapper.tsBoolean);
+        }
+        register(Number.class, (javaType, fallbackType) -> TypeMapper.tsNumber);
+        for (Class numberClass : Arrays.asList(byte.class, short.class, int.class, long.class, float.class, double.class)) {
+            registerExact(numberClass, (javaType, fallbackType) -> TypeMapper.tsNumber);
+        }
+        for (Class dateClass : getSuperTypes(Date.class)) {
+            if (!exactRuleMap.containsKey(dateClass)) {
+                registerExact(dateClass, (javaType, fallbackType) -> TypeMapper.tsDate);
+            }
+        }
+        register(Collection.class, (javaType, fallbackType) -> {
+            if (javaType instanceof ParameterizedType) {
+                return new TSArray(TypeMapper.map(((ParameterizedType) javaType).getActualTypeArguments()[0], fallbackType));
+            }
+            return null;
+        });
+        register(Map.class, (javaType, fallbackType) -> {
+            if (javaType instanceof ParameterizedType) {
+                return new TSMap(TypeMapper.map(((ParameterizedType) javaType).getActualTypeArguments()[1], fallbackType));
+            }
+            return null;
+        });
+        registerExact(Optional.class, (javaType, fallbackType) -> {
+            if (javaType instanceof ParameterizedType) {
+                return TypeMapper.map(((ParameterizedType) javaType).getActualTypeArguments()[0], fallbackType);
+            }
+            return null;
+        });
+    }
+
+    public synchronized void register(Class javaClass, TypeMappingRule typeMappingRule) {
+        ruleMap.put(javaClass, typeMappingRule);
+        resolvedRules = createResolvedRules();
+    }
+
+    public synchronized void registerExact(Class javaClass, TypeMappingRule typeMappingRule) {
+        exactRuleMap.put(javaClass, typeMappingRule);
+        resolvedRules = createResolvedRules();
+    }
+
+    /**
+     * @return rule which applies to given class or null if there is no such rule
+     */
+    public TypeMappingRule resolve(Class javaClass) {
+        TypeMappingRule typeMappingRule = resolvedRules.get(javaClass);
+        return typeMappingRule != NO_RULE ? typeMappingRule : null;
+    }
+
+    private ClassValue<TypeMappingRule> createResolvedRules() {
+        return new ClassValue<TypeMappingRule>() {
+            @Override
+            protected TypeMappingRule computeValue(Class<?> javaClass) {
+                return findRule(javaClass);
+            }
+        };
+    }
+
+    private synchronized TypeMappingRule findRule(Class<?> javaClass) {
+        TypeMappingRule typeMappingRule = exactRuleMap.get(javaClass);
+        if (typeMappingRule != null) {
+            return typeMappingRule;
+        }
+        for (Class superType : getSuperTypes(javaClass)) {
+            typeMappingRule = ruleMap.get(superType);
+            if (typeMappingRule != null) {
+                return typeMappingRule;
+            }
+        }
+        return NO_RULE;
+    }
+
+    /**
+     * @return given class and its super types ordered by distance from given class
+     */
+    private static List<Class> getSuperTypes(Class<?> javaClass) {
+        List<Class> superTypes = new ArrayList<>();
+        Set<Class> visitedTypes = new HashSet<>();
+        superTypes.add(javaClass);
+        visitedTypes.add(javaClass);
+        for (int i = 0; i < superTypes.size(); i++) {
+            Class<?> nextType = superTypes.get(i);
+            if (nextType.getSuperclass() != null && visitedTypes.add(nextType.getSuperclass())) {
+                superTypes.add(nextType.getSuperclass());
+            }
+            for (Class interfaceType : nextType.getInterfaces()) {
+                if (visitedTypes.add(interfaceType)) {
+                    superTypes.add(interfaceType);
+                }
+            }
+        }
+        return superTypes;
+    }
+
+    @Override
+    public synchronized void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("exactRuleMap", exactRuleMap)
+                .add("ruleMap", ruleMap);
+    }
+}
@@ -0,0 +1,93 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TypeScript types registered for java types during single generation. Generator binds new registry to the generating
+ * thread for the whole generation and releases it when generation is finished, so independent generations don't
+ * share registered types. Registry bound to current thread is used by {@link TypeMapper}, threads which convert types
+ * in parallel bind the registry of generating thread
+ */
+public class TypeRegistry {
+    private static final ThreadLocal<TypeRegistry> currentRegistry = new ThreadLocal<>();
+
+    private final TypeMappingTable typeMappingTable;
+    private final Map<Class, TSType> complexTypeMap = new ConcurrentHashMap<>();
+    private final Map<Type, TSType> mappedTypeMap = new ConcurrentHashMap<>();
+
+    public TypeRegistry() {
+        this(new TypeMappingTable());
+    }
+
+    public TypeRegistry(TypeMappingTable typeMappingTable) {
+        this.typeMappingTable = typeMappingTable;
+    }
+
+    /**
+     * @throws IllegalStateException if no registry is bound to the current thread, types could be mapped only during generation
+     */
+    public static TypeRegistry current() {
+        TypeRegistry typeRegistry = currentRegistry.get();
+        if (typeRegistry == null) {
+            throw new IllegalStateException("No type registry is bound to current thread, types could be mapped only during generation");
+        }
+        return typeRegistry;
+    }
+
+    /**
+     * Binds given registry to the current thread
+     * @return registry which was bound before, it should be restored by {@link #release(TypeRegistry)}
+     */
+    public static TypeRegistry bind(TypeRegistry typeRegistry) {
+        TypeRegistry previousRegistry = currentRegistry.get();
+        currentRegistry.set(typeRegistry);
+        return previousRegistry;
+    }
+
+    public static void release(TypeRegistry previousRegistry) {
+        if (previousRegistry != null) {
+            currentRegistry.set(previousRegistry);
+        } else {
+            currentRegistry.remove();
+        }
+    }
+
+    public TypeMappingTable getTypeMappingTable() {
+        return typeMappingTable;
+    }
+
+    public TSType find(Class javaType) {
+        return complexTypeMap.get(javaType);
+    }
+
+    public void register(Class javaType, TSType tsType) {
+        if (!complexTypeMap.containsKey(javaType)) {
+            complexTypeMap.put(javaType, tsType);
+            mappedTypeMap.clear();
+        }
+        if (tsType instanceof TSScopedElement) {
+            TSScopedElement tsScopedElement = (TSScopedElement) tsType;
+            tsScopedElement.getMappedFromJavaTypeSet().add(javaType);
+        }
+    }
+
+    /**
+     * @return type which was mapped for given java type since last registration or null
+     */
+    public TSType findMapped(Type javaType) {
+        return mappedTypeMap.get(javaType);
+    }
+
+    public void putMapped(Type javaType, TSType tsType) {
+        mappedTypeMap.put(javaType, tsType);
+    }
+
+    public int size() {
+        return complexTypeMap.size();
+    }
+}
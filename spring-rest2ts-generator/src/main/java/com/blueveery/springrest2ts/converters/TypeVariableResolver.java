@@ -0,0 +1,254 @@
+package com.blueveery.springrest2ts.converters;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Resolves type variables of super classes and interfaces to actual types seen from given class. Bindings are
+ * collected once per class by walking the whole super types graph and are cached, so resolution of member types
+ * costs a lookup per type variable
+ */
+public class TypeVariableResolver {
+    private static final ClassValue<Map<TypeVariable, Type>> typeVariableBindings = new ClassValue<Map<TypeVariable, Type>>() {
+        @Override
+        protected Map<TypeVariable, Type> computeValue(Class<?> javaClass) {
+            return collectBindings(javaClass);
+        }
+    };
+
+    /**
+     * @return type in which type variables declared by super types of given class are replaced by their actual types,
+     * type variables which are not bound by given class hierarchy are left unchanged
+     */
+    public static Type resolve(Class contextClass, Type type) {
+        Map<TypeVariable, Type> bindings = typeVariableBindings.get(contextClass);
+        if (bindings.isEmpty()) {
+            return type;
+        }
+        return substitute(type, bindings);
+    }
+
+    public static Map<TypeVariable, Type> getBindings(Class contextClass) {
+        return typeVariableBindings.get(contextClass);
+    }
+
+    private static Map<TypeVariable, Type> collectBindings(Class<?> javaClass) {
+        Map<TypeVariable, Type> bindings = new HashMap<>();
+        Deque<Type> superTypes = new ArrayDeque<>();
+        Set<Class> visitedClasses = new HashSet<>();
+        addSuperTypes(javaClass, superTypes);
+        while (!superTypes.isEmpty()) {
+            Type superType = superTypes.poll();
+            Class superClass = superType instanceof ParameterizedType ? (Class) ((ParameterizedType) superType).getRawType() : (Class) superType;
+            if (!visitedClasses.add(superClass)) {
+                continue;
+            }
+            if (superType instanceof ParameterizedType) {
+                Type[] actualTypeArguments = ((ParameterizedType) superType).getActualTypeArguments();
+                TypeVariable[] typeParameters = superClass.getTypeParameters();
+                for (int i = 0; i < typeParameters.length && i < actualTypeArguments.length; i++) {
+                    bindings.put(typeParameters[i], substitute(actualTypeArguments[i], bindings));
+                }
+            }
+            addSuperTypes(superClass, superTypes);
+        }
+        return bindings.isEmpty() ? Collections.emptyMap() : bindings;
+    }
+
+    private static void addSuperTypes(Class<?> javaClass, Deque<Type> superTypes) {
+        if (javaClass.getGenericSuperclass() != null) {
+            superTypes.add(javaClass.getGenericSuperclass());
+        }
+        superTypes.addAll(Arrays.asList(javaClass.getGenericInterfaces()));
+    }
+
+    private static Type substitute(Type type, Map<TypeVariable, Type> bindings) {
+        if (type instanceof TypeVariable) {
+            Type boundType = bindings.get(type);
+            return boundType != null ? boundType : type;
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+            Type[] resolvedTypeArguments = new Type[actualTypeArguments.length];
+            boolean changed = false;
+            for (int i = 0; i < actualTypeArguments.length; i++) {
+                resolvedTypeArguments[i] = substitute(actualTypeArguments[i], bindings);
+                changed |= resolvedTypeArguments[i] != actualTypeArguments[i];
+            }
+            if (!changed) {
+                return type;
+            }
+            return new ResolvedParameterizedType(parameterizedType.getRawType(), parameterizedType.getOwnerType(), resolvedTypeArguments);
+        }
+        if (type instanceof GenericArrayType) {
+            Type componentType = ((GenericArrayType) type).getGenericComponentType();
+            Type resolvedComponentType = substitute(componentType, bindings);
+            if (resolvedComponentType == componentType) {
+                return type;
+            }
+            if (resolvedComponentType instanceof Class) {
+                return Array.newInstance((Class) resolvedComponentType, 0).getClass();
+            }
+            return new ResolvedGenericArrayType(resolvedComponentType);
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            Type[] upperBounds = wildcardType.getUpperBounds();
+            Type[] lowerBounds = wildcardType.getLowerBounds();
+            Type[] resolvedUpperBounds = substitute(upperBounds, bindings);
+            Type[] resolvedLowerBounds = substitute(lowerBounds, bindings);
+            if (resolvedUpperBounds == upperBounds && resolvedLowerBounds == lowerBounds) {
+                return type;
+            }
+            return new ResolvedWildcardType(resolvedUpperBounds, resolvedLowerBounds);
+        }
+        return type;
+    }
+
+    /**
+     * @return given array if none of the types was changed by substitution
+     */
+    private static Type[] substitute(Type[] types, Map<TypeVariable, Type> bindings) {
+        Type[] resolvedTypes = null;
+        for (int i = 0; i < types.length; i++) {
+            Type resolvedType = substitute(types[i], bindings);
+            if (resolvedType != types[i] && resolvedTypes == null) {
+                resolvedTypes = types.clone();
+            }
+            if (resolvedTypes != null) {
+                resolvedTypes[i] = resolvedType;
+            }
+        }
+        return resolvedTypes != null ? resolvedTypes : types;
+    }
+
+    /**
+     * equals and hashCode are compatible with JDK implementation, so resolved types could be used as map keys
+     * together with types obtained by reflection
+     */
+    private static class ResolvedParameterizedType implements ParameterizedType {
+        private final Type rawType;
+        private final Type ownerType;
+        private final Type[] actualTypeArguments;
+
+        ResolvedParameterizedType(Type rawType, Type ownerType, Type[] actualTypeArguments) {
+            this.rawType = rawType;
+            this.ownerType = ownerType;
+            this.actualTypeArguments = actualTypeArguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return actualTypeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return ownerType;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof ParameterizedType)) {
+                return false;
+            }
+            ParameterizedType otherType = (ParameterizedType) object;
+            return Objects.equals(rawType, otherType.getRawType())
+                    && Objects.equals(ownerType, otherType.getOwnerType())
+                    && Arrays.equals(actualTypeArguments, otherType.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner arguments = new StringJoiner(", ", "<", ">");
+            for (Type actualTypeArgument : actualTypeArguments) {
+                arguments.add(actualTypeArgument.getTypeName());
+            }
+            return rawType.getTypeName() + arguments;
+        }
+    }
+
+    private static class ResolvedGenericArrayType implements GenericArrayType {
+        private final Type genericComponentType;
+
+        ResolvedGenericArrayType(Type genericComponentType) {
+            this.genericComponentType = genericComponentType;
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return genericComponentType;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof GenericArrayType && genericComponentType.equals(((GenericArrayType) object).getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(genericComponentType);
+        }
+
+        @Override
+        public String toString() {
+            return genericComponentType.getTypeName() + "[]";
+        }
+    }
+
+    private static class ResolvedWildcardType implements WildcardType {
+        private final Type[] upperBounds;
+        private final Type[] lowerBounds;
+
+        ResolvedWildcardType(Type[] upperBounds, Type[] lowerBounds) {
+            this.upperBounds = upperBounds;
+            this.lowerBounds = lowerBounds;
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return upperBounds.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return lowerBounds.clone();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof WildcardType)) {
+                return false;
+            }
+            WildcardType otherType = (WildcardType) object;
+            return Arrays.equals(upperBounds, otherType.getUpperBounds()) && Arrays.equals(lowerBounds, otherType.getLowerBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(upperBounds) ^ Arrays.hashCode(lowerBounds);
+        }
+
+        @Override
+        public String toString() {
+            if (lowerBounds.length > 0) {
+                return "? super " + lowerBounds[0].getTypeName();
+            }
+            if (upperBounds.length == 0 || upperBounds[0] == Object.class) {
+                return "?";
+            }
+            return "? extends " + upperBounds[0].getTypeName();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.filters;
 
+import com.blueveery.springrest2ts.scanning.ClassFileHierarchy;
+import com.blueveery.springrest2ts.scanning.ClassFileInfo;
 import org.slf4j.Logger;
 
 public class ContainsSubStringJavaTypeFilter implements JavaTypeFilter {
@@ -15,9 +17,31 @@ public class ContainsSubStringJavaTypeFilter implements JavaTypeFilter {
         return javaType.getSimpleName().contains(substring);
     }
 
+    @Override
+    public FilterVerdict preFilter(ClassFileInfo classFileInfo, ClassFileHierarchy classFileHierarchy) {
+        if (!classFileInfo.isParsed()) {
+            return filterByName(classFileInfo.getClassName());
+        }
+        return FilterVerdict.of(classFileInfo.getSimpleName().contains(substring));
+    }
+
+    @Override
+    public FilterVerdict filterByName(String className) {
+        String simpleName = JavaTypeFilter.getTopLevelSimpleName(className);
+        if (simpleName == null) {
+            return FilterVerdict.UNDECIDED;
+        }
+        return FilterVerdict.of(simpleName.contains(substring));
+    }
+
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
-        if (accept(packageClass)) {
+        explain(packageClass, new JavaTypeFilterEvaluator(), logger, indentation);
+    }
+
+    @Override
+    public void explain(Class packageClass, JavaTypeFilterEvaluator evaluator, Logger logger, String indentation) {
+        if (evaluator.accept(this, packageClass)) {
             logger.info(indentation + String.format("TRUE => class %s simple name contains \"%s\"", packageClass.getSimpleName(), substring));
         }else {
             logger.warn(indentation + String.format("FALSE => class %s simple name doesn't contains \"%s\"", packageClass.getSimpleName(), substring));
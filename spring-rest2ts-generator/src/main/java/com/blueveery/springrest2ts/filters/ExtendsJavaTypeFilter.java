@@ -1,7 +1,11 @@
 package com.blueveery.springrest2ts.filters;
 
+import com.blueveery.springrest2ts.scanning.ClassFileHierarchy;
+import com.blueveery.springrest2ts.scanning.ClassFileInfo;
 import org.slf4j.Logger;
 
+import java.util.Set;
+
 public class ExtendsJavaTypeFilter implements JavaTypeFilter {
     private Class baseType;
 
@@ -17,9 +21,28 @@ public class ExtendsJavaTypeFilter implements JavaTypeFilter {
         return baseType.isAssignableFrom(javaType);
     }
 
+    @Override
+    public boolean accept(Class javaType, JavaTypeFilterEvaluator evaluator) {
+        return evaluator.getHierarchyIndex().isSubType(baseType, javaType);
+    }
+
+    @Override
+    public FilterVerdict preFilter(ClassFileInfo classFileInfo, ClassFileHierarchy classFileHierarchy) {
+        Set<String> superTypes = classFileHierarchy.findAllSuperTypes(classFileInfo);
+        if (superTypes == null) {
+            return FilterVerdict.UNDECIDED;
+        }
+        return FilterVerdict.of(superTypes.contains(baseType.getName()));
+    }
+
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
-        if (accept(packageClass)) {
+        explain(packageClass, new JavaTypeFilterEvaluator(), logger, indentation);
+    }
+
+    @Override
+    public void explain(Class packageClass, JavaTypeFilterEvaluator evaluator, Logger logger, String indentation) {
+        if (evaluator.accept(this, packageClass)) {
             logger.info(indentation + String.format("TRUE => class %s extends type %s", packageClass.getSimpleName(), baseType.getSimpleName() ));
         }else {
             logger.warn(indentation + String.format("FALSE => class %s doesn't extends base type %s", packageClass.getSimpleName(), baseType.getSimpleName()));
@@ -0,0 +1,25 @@
+package com.blueveery.springrest2ts.filters;
+
+/**
+ * Result of filter evaluation made on class file, before class is loaded
+ */
+public enum FilterVerdict {
+    ACCEPTED,
+    REJECTED,
+    UNDECIDED;
+
+    public static FilterVerdict of(boolean accepted) {
+        return accepted ? ACCEPTED : REJECTED;
+    }
+
+    public FilterVerdict not() {
+        switch (this) {
+            case ACCEPTED:
+                return REJECTED;
+            case REJECTED:
+                return ACCEPTED;
+            default:
+                return UNDECIDED;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.blueveery.springrest2ts.filters;
 
+import com.blueveery.springrest2ts.scanning.ClassFileHierarchy;
+import com.blueveery.springrest2ts.scanning.ClassFileInfo;
 import org.slf4j.Logger;
 
+import java.lang.annotation.Inherited;
+import java.util.List;
+
 public class HasAnnotationJavaTypeFilter implements JavaTypeFilter {
     Class annotation;
 
@@ -24,9 +29,42 @@ public class HasAnnotationJavaTypeFilter implements JavaTypeFilter {
         return javaType.isAnnotationPresent(annotation);
     }
 
+    @Override
+    public boolean accept(Class javaType, JavaTypeFilterEvaluator evaluator) {
+        return evaluator.getHierarchyIndex().hasAnnotation(annotation, javaType);
+    }
+
+    @Override
+    public FilterVerdict preFilter(ClassFileInfo classFileInfo, ClassFileHierarchy classFileHierarchy) {
+        if (!classFileInfo.isParsed()) {
+            return FilterVerdict.UNDECIDED;
+        }
+        if (classFileInfo.getAnnotationNames().contains(annotation.getName())) {
+            return FilterVerdict.ACCEPTED;
+        }
+        if (!annotation.isAnnotationPresent(Inherited.class)) {
+            return FilterVerdict.REJECTED;
+        }
+        List<ClassFileInfo> superClassChain = classFileHierarchy.findSuperClassChain(classFileInfo);
+        if (superClassChain == null) {
+            return FilterVerdict.UNDECIDED;
+        }
+        for (ClassFileInfo superClassInfo : superClassChain) {
+            if (superClassInfo.getAnnotationNames().contains(annotation.getName())) {
+                return FilterVerdict.ACCEPTED;
+            }
+        }
+        return FilterVerdict.REJECTED;
+    }
+
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
-        if (accept(packageClass)) {
+        explain(packageClass, new JavaTypeFilterEvaluator(), logger, indentation);
+    }
+
+    @Override
+    public void explain(Class packageClass, JavaTypeFilterEvaluator evaluator, Logger logger, String indentation) {
+        if (evaluator.accept(this, packageClass)) {
             logger.info(indentation + String.format("TRUE => class %s has annotation %s", packageClass.getSimpleName(), annotation.getSimpleName()));
         }else {
             logger.warn(indentation + String.format("FALSE => class %s doesn't have annotation %s", packageClass.getSimpleName(), annotation.getSimpleName() ));
@@ -1,9 +1,50 @@
 package com.blueveery.springrest2ts.filters;
 
+import com.blueveery.springrest2ts.scanning.ClassFileHierarchy;
+import com.blueveery.springrest2ts.scanning.ClassFileInfo;
 import org.slf4j.Logger;
 
 public interface JavaTypeFilter {
     boolean accept(Class javaType);
 
     void explain(Class packageClass, Logger logger, String indentation);
+
+    /**
+     * Evaluates filter with evaluator which memoizes verdicts of nested filters and answers hierarchy checks from index
+     */
+    default boolean accept(Class javaType, JavaTypeFilterEvaluator evaluator) {
+        return accept(javaType);
+    }
+
+    default void explain(Class packageClass, JavaTypeFilterEvaluator evaluator, Logger logger, String indentation) {
+        explain(packageClass, logger, indentation);
+    }
+
+    /**
+     * Evaluates filter on class file, classes which are rejected here are not loaded.
+     * Verdict must be exact: filter must not reject class which could be accepted by {@link #accept(Class)} and must
+     * not accept class which could be rejected by it, because {@link NotJavaTypeFilter} turns one into the other.
+     * If it isn't known, filter returns UNDECIDED
+     */
+    default FilterVerdict preFilter(ClassFileInfo classFileInfo, ClassFileHierarchy classFileHierarchy) {
+        return filterByName(classFileInfo.getClassName());
+    }
+
+    /**
+     * Evaluates filter on binary class name only, before class file is parsed.
+     * Verdict must be exact like in {@link #preFilter(ClassFileInfo, ClassFileHierarchy)}
+     */
+    default FilterVerdict filterByName(String className) {
+        return FilterVerdict.UNDECIDED;
+    }
+
+    /**
+     * @return simple name of top level class or null if class is nested and its simple name can't be found from its name
+     */
+    static String getTopLevelSimpleName(String className) {
+        if (className.indexOf('$') >= 0) {
+            return null;
+        }
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
 }
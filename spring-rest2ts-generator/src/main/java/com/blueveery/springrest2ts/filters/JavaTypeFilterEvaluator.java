@@ -0,0 +1,46 @@
+package com.blueveery.springrest2ts.filters;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Evaluates filters on indexed classes and memoizes verdict of each filter for each class, so filters shared
+ * between model and rest conditions, and explanation of verdicts, are evaluated only once. Not thread safe
+ */
+public class JavaTypeFilterEvaluator {
+    private final JavaTypeHierarchyIndex hierarchyIndex;
+    private final Map<JavaTypeFilter, Verdicts> verdictsMap = new IdentityHashMap<>();
+
+    public JavaTypeFilterEvaluator() {
+        this(new JavaTypeHierarchyIndex(Collections.emptyList()));
+    }
+
+    public JavaTypeFilterEvaluator(JavaTypeHierarchyIndex hierarchyIndex) {
+        this.hierarchyIndex = hierarchyIndex;
+    }
+
+    public JavaTypeHierarchyIndex getHierarchyIndex() {
+        return hierarchyIndex;
+    }
+
+    public boolean accept(JavaTypeFilter javaTypeFilter, Class javaType) {
+        int index = hierarchyIndex.indexOf(javaType);
+        if (index < 0) {
+            return javaTypeFilter.accept(javaType, this);
+        }
+        Verdicts verdicts = verdictsMap.computeIfAbsent(javaTypeFilter, f -> new Verdicts());
+        if (!verdicts.evaluated.get(index)) {
+            boolean accepted = javaTypeFilter.accept(javaType, this);
+            verdicts.evaluated.set(index);
+            verdicts.accepted.set(index, accepted);
+        }
+        return verdicts.accepted.get(index);
+    }
+
+    private static class Verdicts {
+        private final BitSet evaluated = new BitSet();
+        private final BitSet accepted = new BitSet();
+    }
+}
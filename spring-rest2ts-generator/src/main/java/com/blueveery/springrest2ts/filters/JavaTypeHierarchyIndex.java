@@ -0,0 +1,91 @@
+package com.blueveery.springrest2ts.filters;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of loaded classes built once per scan, super types of each class are stored as bit set of type ids so
+ * "extends" and "annotated with" checks are answered with bit lookups
+ */
+public class JavaTypeHierarchyIndex {
+    private final List<Class> javaTypes = new ArrayList<>();
+    private final Map<Class, Integer> javaTypeIndexMap = new HashMap<>();
+    private final Map<Class, Integer> typeIdMap = new HashMap<>();
+    private final Map<Class, BitSet> superTypeIdsMap = new HashMap<>();
+    private final Map<Class, BitSet> annotatedTypesMap = new ConcurrentHashMap<>();
+
+    public JavaTypeHierarchyIndex(Collection<Class> javaTypes) {
+        for (Class javaType : javaTypes) {
+            if (!javaTypeIndexMap.containsKey(javaType)) {
+                javaTypeIndexMap.put(javaType, this.javaTypes.size());
+                this.javaTypes.add(javaType);
+            }
+        }
+        for (Class javaType : this.javaTypes) {
+            findSuperTypeIds(javaType);
+        }
+    }
+
+    /**
+     * @return index of given class or -1 if class is not indexed
+     */
+    public int indexOf(Class javaType) {
+        Integer index = javaTypeIndexMap.get(javaType);
+        return index == null ? -1 : index;
+    }
+
+    public int size() {
+        return javaTypes.size();
+    }
+
+    public boolean isSubType(Class baseType, Class javaType) {
+        BitSet superTypeIds = superTypeIdsMap.get(javaType);
+        if (superTypeIds == null) {
+            return baseType.isAssignableFrom(javaType);
+        }
+        Integer baseTypeId = typeIdMap.get(baseType);
+        return baseTypeId != null && superTypeIds.get(baseTypeId);
+    }
+
+    public boolean hasAnnotation(Class annotation, Class javaType) {
+        int index = indexOf(javaType);
+        if (index < 0) {
+            return javaType.isAnnotationPresent(annotation);
+        }
+        return annotatedTypesMap.computeIfAbsent(annotation, this::findAnnotatedTypes).get(index);
+    }
+
+    private BitSet findSuperTypeIds(Class javaType) {
+        BitSet superTypeIds = superTypeIdsMap.get(javaType);
+        if (superTypeIds != null) {
+            return superTypeIds;
+        }
+        superTypeIds = new BitSet();
+        superTypeIds.set(getTypeId(javaType));
+        if (javaType.getSuperclass() != null) {
+            superTypeIds.or(findSuperTypeIds(javaType.getSuperclass()));
+        }
+        for (Class interfaceType : javaType.getInterfaces()) {
+            superTypeIds.or(findSuperTypeIds(interfaceType));
+        }
+        if (javaType.isInterface()) {
+            superTypeIds.set(getTypeId(Object.class));
+        }
+        superTypeIdsMap.put(javaType, superTypeIds);
+        return superTypeIds;
+    }
+
+    private int getTypeId(Class javaType) {
+        return typeIdMap.computeIfAbsent(javaType, t -> typeIdMap.size());
+    }
+
+    private BitSet findAnnotatedTypes(Class annotation) {
+        BitSet annotatedTypes = new BitSet(javaTypes.size());
+        for (int i = 0; i < javaTypes.size(); i++) {
+            if (javaTypes.get(i).isAnnotationPresent(annotation)) {
+                annotatedTypes.set(i);
+            }
+        }
+        return annotatedTypes;
+    }
+}
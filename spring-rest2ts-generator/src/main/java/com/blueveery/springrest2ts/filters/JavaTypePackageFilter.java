@@ -10,14 +10,32 @@ public class JavaTypePackageFilter implements JavaTypeFilter {
         this.targetPackage = targetPackage;
     }
 
+    /**
+     * Packages are compared by name, classes defined by different class loaders have different package objects
+     */
     @Override
     public boolean accept(Class javaType) {
-        return javaType.getPackage().equals(targetPackage);
+        return getPackageName(javaType.getName()).equals(targetPackage.getName());
+    }
+
+    @Override
+    public FilterVerdict filterByName(String className) {
+        return FilterVerdict.of(getPackageName(className).equals(targetPackage.getName()));
+    }
+
+    private static String getPackageName(String className) {
+        int lastDotIndex = className.lastIndexOf('.');
+        return lastDotIndex < 0 ? "" : className.substring(0, lastDotIndex);
     }
 
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
-        if (accept(packageClass)) {
+        explain(packageClass, new JavaTypeFilterEvaluator(), logger, indentation);
+    }
+
+    @Override
+    public void explain(Class packageClass, JavaTypeFilterEvaluator evaluator, Logger logger, String indentation) {
+        if (evaluator.accept(this, packageClass)) {
             logger.info(indentation + String.format("TRUE => class %s package matches target package \"%s\"", packageClass.getSimpleName(), targetPackage.getName()));
         } else {
             logger.warn(indentation + String.format("FALSE => class %s package doesn't match target package \"%s\"", packageClass.getSimpleName(), targetPackage.getName()));
@@ -17,9 +17,24 @@ public class JavaTypeSetFilter implements JavaTypeFilter {
         return classSet.contains(javaType);
     }
 
+    @Override
+    public FilterVerdict filterByName(String className) {
+        for (Class javaType : classSet) {
+            if (javaType.getName().equals(className)) {
+                return FilterVerdict.UNDECIDED;
+            }
+        }
+        return FilterVerdict.REJECTED;
+    }
+
     @Override
     public void explain(Class javaType, Logger logger, String indentation) {
-        if (accept(javaType)) {
+        explain(javaType, new JavaTypeFilterEvaluator(), logger, indentation);
+    }
+
+    @Override
+    public void explain(Class javaType, JavaTypeFilterEvaluator evaluator, Logger logger, String indentation) {
+        if (evaluator.accept(this, javaType)) {
             logger.info(indentation + String.format("TRUE => class %s is in the required set", javaType.getSimpleName()));
         } else {
             logger.warn(indentation + String.format("FALSE => class %s is not in the required set", javaType.getSimpleName()));
@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.filters;
 
+import com.blueveery.springrest2ts.scanning.ClassFileHierarchy;
+import com.blueveery.springrest2ts.scanning.ClassFileInfo;
 import org.slf4j.Logger;
 
 public class NotJavaTypeFilter implements JavaTypeFilter {
@@ -14,15 +16,35 @@ public class NotJavaTypeFilter implements JavaTypeFilter {
         return !javaTypeFilter.accept(javaType);
     }
 
+    @Override
+    public boolean accept(Class javaType, JavaTypeFilterEvaluator evaluator) {
+        return !evaluator.accept(javaTypeFilter, javaType);
+    }
+
+    @Override
+    public FilterVerdict preFilter(ClassFileInfo classFileInfo, ClassFileHierarchy classFileHierarchy) {
+        return javaTypeFilter.preFilter(classFileInfo, classFileHierarchy).not();
+    }
+
+    @Override
+    public FilterVerdict filterByName(String className) {
+        return javaTypeFilter.filterByName(className).not();
+    }
+
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
-        if (accept(packageClass)) {
+        explain(packageClass, new JavaTypeFilterEvaluator(), logger, indentation);
+    }
+
+    @Override
+    public void explain(Class packageClass, JavaTypeFilterEvaluator evaluator, Logger logger, String indentation) {
+        if (evaluator.accept(this, packageClass)) {
             logger.info(indentation + "TRUE => {NOT ");
-            javaTypeFilter.explain(packageClass, logger, indentation);
+            javaTypeFilter.explain(packageClass, evaluator, logger, indentation);
             logger.info(indentation + "}");
         }else {
             logger.info(indentation + "FALSE => {NOT ");
-            javaTypeFilter.explain(packageClass, logger, indentation);
+            javaTypeFilter.explain(packageClass, evaluator, logger, indentation);
             logger.info(indentation + "}");
 
         }
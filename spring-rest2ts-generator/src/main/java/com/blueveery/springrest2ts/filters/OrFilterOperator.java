@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.filters;
 
+import com.blueveery.springrest2ts.scanning.ClassFileHierarchy;
+import com.blueveery.springrest2ts.scanning.ClassFileInfo;
 import java.util.List;
 import org.slf4j.Logger;
 
@@ -19,10 +21,55 @@ public class OrFilterOperator extends ComplexFilterOperator {
         return false;
     }
 
+    @Override
+    public boolean accept(Class javaType, JavaTypeFilterEvaluator evaluator) {
+        for (JavaTypeFilter typeFilter : getJavaTypeFilters()) {
+            if (evaluator.accept(typeFilter, javaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public FilterVerdict preFilter(ClassFileInfo classFileInfo, ClassFileHierarchy classFileHierarchy) {
+        FilterVerdict verdict = FilterVerdict.REJECTED;
+        for (JavaTypeFilter typeFilter : getJavaTypeFilters()) {
+            FilterVerdict nextVerdict = typeFilter.preFilter(classFileInfo, classFileHierarchy);
+            if (nextVerdict == FilterVerdict.ACCEPTED) {
+                return FilterVerdict.ACCEPTED;
+            }
+            if (nextVerdict == FilterVerdict.UNDECIDED) {
+                verdict = FilterVerdict.UNDECIDED;
+            }
+        }
+        return verdict;
+    }
+
+    @Override
+    public FilterVerdict filterByName(String className) {
+        FilterVerdict verdict = FilterVerdict.REJECTED;
+        for (JavaTypeFilter typeFilter : getJavaTypeFilters()) {
+            FilterVerdict nextVerdict = typeFilter.filterByName(className);
+            if (nextVerdict == FilterVerdict.ACCEPTED) {
+                return FilterVerdict.ACCEPTED;
+            }
+            if (nextVerdict == FilterVerdict.UNDECIDED) {
+                verdict = FilterVerdict.UNDECIDED;
+            }
+        }
+        return verdict;
+    }
+
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
+        explain(packageClass, new JavaTypeFilterEvaluator(), logger, indentation);
+    }
+
+    @Override
+    public void explain(Class packageClass, JavaTypeFilterEvaluator evaluator, Logger logger, String indentation) {
         logger.info(indentation + "{ OR FILTER");
-        getJavaTypeFilters().forEach(f -> f.explain(packageClass, logger, indentation+"\t"));
+        getJavaTypeFilters().forEach(f -> f.explain(packageClass, evaluator, logger, indentation+"\t"));
         logger.info(indentation + "}");
     }
 
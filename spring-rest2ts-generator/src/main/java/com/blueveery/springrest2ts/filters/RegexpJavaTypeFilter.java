@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.filters;
 
+import com.blueveery.springrest2ts.scanning.ClassFileHierarchy;
+import com.blueveery.springrest2ts.scanning.ClassFileInfo;
 import org.slf4j.Logger;
 
 public class RegexpJavaTypeFilter implements JavaTypeFilter {
@@ -15,9 +17,31 @@ public class RegexpJavaTypeFilter implements JavaTypeFilter {
         return javaType.getSimpleName().matches(pattern);
     }
 
+    @Override
+    public FilterVerdict preFilter(ClassFileInfo classFileInfo, ClassFileHierarchy classFileHierarchy) {
+        if (!classFileInfo.isParsed()) {
+            return filterByName(classFileInfo.getClassName());
+        }
+        return FilterVerdict.of(classFileInfo.getSimpleName().matches(pattern));
+    }
+
+    @Override
+    public FilterVerdict filterByName(String className) {
+        String simpleName = JavaTypeFilter.getTopLevelSimpleName(className);
+        if (simpleName == null) {
+            return FilterVerdict.UNDECIDED;
+        }
+        return FilterVerdict.of(simpleName.matches(pattern));
+    }
+
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
-        if (accept(packageClass)) {
+        explain(packageClass, new JavaTypeFilterEvaluator(), logger, indentation);
+    }
+
+    @Override
+    public void explain(Class packageClass, JavaTypeFilterEvaluator evaluator, Logger logger, String indentation) {
+        if (evaluator.accept(this, packageClass)) {
             logger.info(indentation + String.format("TRUE => class %s simple name matches regex \"%s\"", packageClass.getSimpleName(), pattern ));
         }else {
             logger.warn(indentation + String.format("FALSE => class %s simple name doesn't matches regex \"%s\"", packageClass.getSimpleName(), pattern));
@@ -8,6 +8,11 @@ public class RejectJavaTypeFilter implements JavaTypeFilter {
         return false;
     }
 
+    @Override
+    public FilterVerdict filterByName(String className) {
+        return FilterVerdict.REJECTED;
+    }
+
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
         logger.error(indentation + String.format("Rejecting class $s due to reject filter, please configure filter", packageClass));
@@ -0,0 +1,145 @@
+package com.blueveery.springrest2ts.filters;
+
+import org.slf4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Records filter verdicts of scanned classes in memory, explanations are rendered only on demand
+ * for classes matching given pattern or as a summary file
+ */
+public class ScanDiagnostics {
+
+    public enum Verdict {
+        REJECTED_BEFORE_LOADING,
+        REJECTED,
+        MODEL,
+        REST,
+        ENUM,
+        REACHABLE
+    }
+
+    private final List<String> classesRejectedBeforeLoading = Collections.synchronizedList(new ArrayList<>());
+    private final EnumMap<Verdict, BitSet> verdictsMap = new EnumMap<>(Verdict.class);
+    private List<Class> loadedClasses = Collections.emptyList();
+    private JavaTypeFilterEvaluator filterEvaluator = new JavaTypeFilterEvaluator();
+    private JavaTypeFilter modelClassesCondition;
+    private JavaTypeFilter restClassesCondition;
+
+    public void clear() {
+        classesRejectedBeforeLoading.clear();
+        verdictsMap.clear();
+        loadedClasses = Collections.emptyList();
+    }
+
+    public void classRejectedBeforeLoading(String className) {
+        classesRejectedBeforeLoading.add(className);
+    }
+
+    public void classesLoaded(List<Class> loadedClasses, JavaTypeFilterEvaluator filterEvaluator,
+                              JavaTypeFilter modelClassesCondition, JavaTypeFilter restClassesCondition) {
+        this.loadedClasses = loadedClasses;
+        this.filterEvaluator = filterEvaluator;
+        this.modelClassesCondition = modelClassesCondition;
+        this.restClassesCondition = restClassesCondition;
+    }
+
+    public void record(Verdict verdict, Class javaClass) {
+        int index = filterEvaluator.getHierarchyIndex().indexOf(javaClass);
+        if (index >= 0) {
+            verdictsMap.computeIfAbsent(verdict, v -> new BitSet()).set(index);
+        }
+    }
+
+    public int count(Verdict verdict) {
+        switch (verdict) {
+            case REJECTED_BEFORE_LOADING:
+                return classesRejectedBeforeLoading.size();
+            case REJECTED:
+                return loadedClasses.size() - accepted().cardinality();
+            default:
+                return verdictsMap.getOrDefault(verdict, new BitSet()).cardinality();
+        }
+    }
+
+    /**
+     * Logs why classes which names match given regular expression were rejected by model and REST classes conditions
+     */
+    public void explainRejected(String classNamePattern, Logger logger) {
+        Pattern pattern = Pattern.compile(classNamePattern);
+        for (String className : sortedClassesRejectedBeforeLoading()) {
+            if (pattern.matcher(className).matches()) {
+                logger.info(String.format("Class %s rejected before loading", className));
+            }
+        }
+        BitSet accepted = accepted();
+        for (int i = 0; i < loadedClasses.size(); i++) {
+            Class javaClass = loadedClasses.get(i);
+            if (!accepted.get(i) && pattern.matcher(javaClass.getName()).matches()) {
+                logger.info(String.format("Class %s rejected by model classes condition", javaClass.getName()));
+                modelClassesCondition.explain(javaClass, filterEvaluator, logger, "\t");
+                logger.info(String.format("Class %s rejected by REST classes condition", javaClass.getName()));
+                restClassesCondition.explain(javaClass, filterEvaluator, logger, "\t");
+            }
+        }
+    }
+
+    /**
+     * Writes verdicts of all scanned classes, one class per line
+     */
+    public void writeSummary(Path summaryFile) throws IOException {
+        if (summaryFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(summaryFile.toAbsolutePath().getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(summaryFile, StandardCharsets.UTF_8)) {
+            for (Verdict verdict : Verdict.values()) {
+                writer.write(String.format("%s : %d", verdict, count(verdict)));
+                writer.newLine();
+            }
+            for (String className : sortedClassesRejectedBeforeLoading()) {
+                writer.write(Verdict.REJECTED_BEFORE_LOADING + " " + className);
+                writer.newLine();
+            }
+            for (int i = 0; i < loadedClasses.size(); i++) {
+                writer.write(String.join(",", findVerdicts(i)) + " " + loadedClasses.get(i).getName());
+                writer.newLine();
+            }
+        }
+    }
+
+    private List<String> findVerdicts(int index) {
+        List<String> verdicts = new ArrayList<>();
+        for (Map.Entry<Verdict, BitSet> entry : verdictsMap.entrySet()) {
+            if (entry.getValue().get(index)) {
+                verdicts.add(entry.getKey().name());
+            }
+        }
+        if (verdicts.isEmpty()) {
+            verdicts.add(Verdict.REJECTED.name());
+        }
+        return verdicts;
+    }
+
+    private BitSet accepted() {
+        BitSet accepted = new BitSet();
+        for (Verdict verdict : Arrays.asList(Verdict.MODEL, Verdict.REST, Verdict.ENUM)) {
+            accepted.or(verdictsMap.getOrDefault(verdict, new BitSet()));
+        }
+        return accepted;
+    }
+
+    private List<String> sortedClassesRejectedBeforeLoading() {
+        List<String> classNames;
+        synchronized (classesRejectedBeforeLoading) {
+            classNames = new ArrayList<>(classesRejectedBeforeLoading);
+        }
+        Collections.sort(classNames);
+        return classNames;
+    }
+}
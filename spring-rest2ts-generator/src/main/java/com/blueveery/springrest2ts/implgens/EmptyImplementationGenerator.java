@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.implgens;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.extensions.ConversionExtension;
 import com.blueveery.springrest2ts.tsmodel.*;
 
@@ -8,7 +10,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 
-public class EmptyImplementationGenerator implements ImplementationGenerator {
+public class EmptyImplementationGenerator implements ImplementationGenerator, DescribedConfiguration {
     @Override
     public void setExtensions(List<? extends ConversionExtension> conversionExtensionSet) {
 
@@ -48,4 +50,8 @@ public class EmptyImplementationGenerator implements ImplementationGenerator {
     public void addImplementationSpecificFields(TSComplexElement tsComplexType) {
 
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+    }
 }
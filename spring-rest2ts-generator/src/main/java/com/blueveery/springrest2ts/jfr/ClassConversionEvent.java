@@ -0,0 +1,30 @@
+package com.blueveery.springrest2ts.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.blueveery.springrest2ts.ClassConversion")
+@Label("Class Conversion")
+@Description("Conversion of java class to TypeScript type in single converter phase")
+@Category("Spring Rest2ts")
+class ClassConversionEvent extends Event implements GeneratorEvent {
+    @Label("Class")
+    String className;
+
+    @Label("Converter")
+    String converterName;
+
+    @Label("Phase")
+    String phase;
+
+    static GeneratorEvent start(Class javaClass, Object converter, String phase) {
+        ClassConversionEvent event = new ClassConversionEvent();
+        if (!event.isEnabled()) {
+            return GeneratorEvents.NO_EVENT;
+        }
+        event.className = javaClass.getName();
+        event.converterName = converter.getClass().getName();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,22 @@
+package com.blueveery.springrest2ts.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.blueveery.springrest2ts.ClassLoad")
+@Label("Class Load")
+@Description("Loading of scanned class")
+@Category("Spring Rest2ts")
+class ClassLoadEvent extends Event implements GeneratorEvent {
+    @Label("Class")
+    String className;
+
+    static GeneratorEvent start(String className) {
+        ClassLoadEvent event = new ClassLoadEvent();
+        if (!event.isEnabled()) {
+            return GeneratorEvents.NO_EVENT;
+        }
+        event.className = className;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,24 @@
+package com.blueveery.springrest2ts.jfr;
+
+import jdk.jfr.*;
+
+import java.util.Set;
+
+@Name("com.blueveery.springrest2ts.ClassPathScan")
+@Label("Class Path Scan")
+@Description("Reading class files of scanned packages")
+@Category("Spring Rest2ts")
+class ClassPathScanEvent extends Event implements GeneratorEvent {
+    @Label("Packages")
+    String packageNames;
+
+    static GeneratorEvent start(Set<String> packageNames) {
+        ClassPathScanEvent event = new ClassPathScanEvent();
+        if (!event.isEnabled()) {
+            return GeneratorEvents.NO_EVENT;
+        }
+        event.packageNames = String.join(",", packageNames);
+        event.begin();
+        return event;
+    }
+}
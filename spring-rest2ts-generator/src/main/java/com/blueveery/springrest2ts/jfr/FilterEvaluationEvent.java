@@ -0,0 +1,26 @@
+package com.blueveery.springrest2ts.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.blueveery.springrest2ts.FilterEvaluation")
+@Label("Filter Evaluation")
+@Description("Evaluation of model or REST classes condition for loaded class")
+@Category("Spring Rest2ts")
+class FilterEvaluationEvent extends Event implements GeneratorEvent {
+    @Label("Class")
+    String className;
+
+    @Label("Filter")
+    String filterName;
+
+    static GeneratorEvent start(Class javaClass, String filterName) {
+        FilterEvaluationEvent event = new FilterEvaluationEvent();
+        if (!event.isEnabled()) {
+            return GeneratorEvents.NO_EVENT;
+        }
+        event.className = javaClass.getName();
+        event.filterName = filterName;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,8 @@
+package com.blueveery.springrest2ts.jfr;
+
+/**
+ * Event started by {@link GeneratorEvents}, it is recorded when committed
+ */
+public interface GeneratorEvent {
+    void commit();
+}
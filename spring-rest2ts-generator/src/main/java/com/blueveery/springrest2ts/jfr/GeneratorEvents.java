@@ -0,0 +1,45 @@
+package com.blueveery.springrest2ts.jfr;
+
+import java.util.Set;
+
+/**
+ * Starts Java Flight Recorder events for generator phases. Events are created only if JFR is available in JVM and
+ * they are enabled in running recording, otherwise started event does nothing
+ */
+public class GeneratorEvents {
+    static final GeneratorEvent NO_EVENT = () -> {
+    };
+    private static final boolean jfrAvailable = isJfrAvailable();
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, GeneratorEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public static GeneratorEvent classPathScanStarted(Set<String> packageNames) {
+        return jfrAvailable ? ClassPathScanEvent.start(packageNames) : NO_EVENT;
+    }
+
+    public static GeneratorEvent classLoadStarted(String className) {
+        return jfrAvailable ? ClassLoadEvent.start(className) : NO_EVENT;
+    }
+
+    public static GeneratorEvent filterEvaluationStarted(Class javaClass, String filterName) {
+        return jfrAvailable ? FilterEvaluationEvent.start(javaClass, filterName) : NO_EVENT;
+    }
+
+    /**
+     * @param phase converter phase: preConverted, convertInheritance or convert
+     */
+    public static GeneratorEvent classConversionStarted(Class javaClass, Object converter, String phase) {
+        return jfrAvailable ? ClassConversionEvent.start(javaClass, converter, phase) : NO_EVENT;
+    }
+
+    public static GeneratorEvent moduleWriteStarted(String moduleName, String moduleFile) {
+        return jfrAvailable ? ModuleWriteEvent.start(moduleName, moduleFile) : NO_EVENT;
+    }
+}
@@ -0,0 +1,26 @@
+package com.blueveery.springrest2ts.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.blueveery.springrest2ts.ModuleWrite")
+@Label("Module Write")
+@Description("Rendering and writing of TypeScript module into file")
+@Category("Spring Rest2ts")
+class ModuleWriteEvent extends Event implements GeneratorEvent {
+    @Label("Module")
+    String moduleName;
+
+    @Label("File")
+    String moduleFile;
+
+    static GeneratorEvent start(String moduleName, String moduleFile) {
+        ModuleWriteEvent event = new ModuleWriteEvent();
+        if (!event.isEnabled()) {
+            return GeneratorEvents.NO_EVENT;
+        }
+        event.moduleName = moduleName;
+        event.moduleFile = moduleFile;
+        event.begin();
+        return event;
+    }
+}
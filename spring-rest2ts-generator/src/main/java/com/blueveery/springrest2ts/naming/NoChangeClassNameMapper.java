@@ -1,8 +1,15 @@
 package com.blueveery.springrest2ts.naming;
 
-public class NoChangeClassNameMapper implements ClassNameMapper {
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
+
+public class NoChangeClassNameMapper implements ClassNameMapper, DescribedConfiguration {
     @Override
     public String mapJavaClassNameToTs(String javaClassName) {
         return javaClassName;
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+    }
 }
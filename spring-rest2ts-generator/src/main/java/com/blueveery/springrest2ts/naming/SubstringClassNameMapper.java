@@ -1,6 +1,9 @@
 package com.blueveery.springrest2ts.naming;
 
-public class SubstringClassNameMapper implements ClassNameMapper {
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
+
+public class SubstringClassNameMapper implements ClassNameMapper, DescribedConfiguration {
     private String from;
     private String to;
 
@@ -13,4 +16,10 @@ public class SubstringClassNameMapper implements ClassNameMapper {
     public String mapJavaClassNameToTs(String javaClassName) {
         return javaClassName.replace(from, to);
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("from", from)
+                .add("to", to);
+    }
 }
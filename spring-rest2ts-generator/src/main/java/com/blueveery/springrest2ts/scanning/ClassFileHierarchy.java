@@ -0,0 +1,108 @@
+package com.blueveery.springrest2ts.scanning;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Type hierarchy built from class files, super types which were not scanned are read
+ * as resources from class loader, so no class is loaded during hierarchy resolution
+ */
+public class ClassFileHierarchy {
+    private final ClassLoader classLoader;
+    private final ClassFileParser classFileParser = new ClassFileParser();
+    private final Map<String, ClassFileInfo> classFileInfoMap = new HashMap<>();
+    private final Set<String> unresolvedClassNames = new HashSet<>();
+    private final Map<String, Set<String>> superTypesMap = new HashMap<>();
+
+    public ClassFileHierarchy(ClassLoader classLoader, Collection<ClassFileInfo> scannedClasses) {
+        this.classLoader = classLoader;
+        for (ClassFileInfo classFileInfo : scannedClasses) {
+            if (classFileInfo.isParsed()) {
+                classFileInfoMap.put(classFileInfo.getClassName(), classFileInfo);
+            }
+        }
+    }
+
+    public ClassFileInfo find(String className) {
+        ClassFileInfo classFileInfo = classFileInfoMap.get(className);
+        if (classFileInfo != null || unresolvedClassNames.contains(className)) {
+            return classFileInfo;
+        }
+        try (InputStream inputStream = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (inputStream != null) {
+                classFileInfo = classFileParser.parse(readAllBytes(inputStream));
+                classFileInfoMap.put(className, classFileInfo);
+                return classFileInfo;
+            }
+        } catch (IOException ignore) {
+        }
+        unresolvedClassNames.add(className);
+        return null;
+    }
+
+    /**
+     * @return names of all super classes and interfaces including given class or null if any of them could not be resolved
+     */
+    public Set<String> findAllSuperTypes(ClassFileInfo classFileInfo) {
+        if (!classFileInfo.isParsed()) {
+            return null;
+        }
+        String className = classFileInfo.getClassName();
+        if (superTypesMap.containsKey(className)) {
+            return superTypesMap.get(className);
+        }
+        Set<String> superTypes = new HashSet<>();
+        superTypes.add(className);
+        List<String> directSuperTypes = new ArrayList<>(classFileInfo.getInterfaceNames());
+        if (classFileInfo.getSuperClassName() != null) {
+            directSuperTypes.add(classFileInfo.getSuperClassName());
+        }
+        for (String superTypeName : directSuperTypes) {
+            ClassFileInfo superTypeInfo = find(superTypeName);
+            Set<String> inheritedSuperTypes = superTypeInfo == null ? null : findAllSuperTypes(superTypeInfo);
+            if (inheritedSuperTypes == null) {
+                superTypes = null;
+                break;
+            }
+            superTypes.addAll(inheritedSuperTypes);
+        }
+        superTypesMap.put(className, superTypes);
+        return superTypes;
+    }
+
+    /**
+     * @return given class and all its super classes or null if any of them could not be resolved
+     */
+    public List<ClassFileInfo> findSuperClassChain(ClassFileInfo classFileInfo) {
+        List<ClassFileInfo> superClassChain = new ArrayList<>();
+        ClassFileInfo currentClass = classFileInfo;
+        while (currentClass != null) {
+            if (!currentClass.isParsed()) {
+                return null;
+            }
+            superClassChain.add(currentClass);
+            if (currentClass.getSuperClassName() == null) {
+                return superClassChain;
+            }
+            currentClass = find(currentClass.getSuperClassName());
+        }
+        return null;
+    }
+
+    public boolean couldBeEnum(ClassFileInfo classFileInfo) {
+        Set<String> superTypes = findAllSuperTypes(classFileInfo);
+        return superTypes == null || superTypes.contains(Enum.class.getName());
+    }
+
+    static byte[] readAllBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int readBytes;
+        while ((readBytes = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, readBytes);
+        }
+        return outputStream.toByteArray();
+    }
+}
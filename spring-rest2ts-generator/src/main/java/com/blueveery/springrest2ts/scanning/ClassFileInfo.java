@@ -0,0 +1,92 @@
+package com.blueveery.springrest2ts.scanning;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class description read straight from class file bytes, available before the class is loaded
+ */
+public class ClassFileInfo {
+    static final int ACC_INTERFACE = 0x0200;
+    static final int ACC_ANNOTATION = 0x2000;
+    static final int ACC_ENUM = 0x4000;
+
+    private final String className;
+    private final String simpleName;
+    private final String superClassName;
+    private final List<String> interfaceNames;
+    private final List<String> annotationNames;
+    private final int accessFlags;
+    private final boolean parsed;
+
+    public ClassFileInfo(String className, String simpleName, String superClassName, List<String> interfaceNames,
+                         List<String> annotationNames, int accessFlags) {
+        this.className = className;
+        this.simpleName = simpleName;
+        this.superClassName = superClassName;
+        this.interfaceNames = interfaceNames;
+        this.annotationNames = annotationNames;
+        this.accessFlags = accessFlags;
+        this.parsed = true;
+    }
+
+    public ClassFileInfo(String className) {
+        this.className = className;
+        this.simpleName = null;
+        this.superClassName = null;
+        this.interfaceNames = Collections.emptyList();
+        this.annotationNames = Collections.emptyList();
+        this.accessFlags = 0;
+        this.parsed = false;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getSimpleName() {
+        return simpleName;
+    }
+
+    public String getPackageName() {
+        int lastDotIndex = className.lastIndexOf('.');
+        return lastDotIndex < 0 ? "" : className.substring(0, lastDotIndex);
+    }
+
+    public String getSuperClassName() {
+        return superClassName;
+    }
+
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    public List<String> getAnnotationNames() {
+        return annotationNames;
+    }
+
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    public boolean isParsed() {
+        return parsed;
+    }
+
+    public boolean isInterface() {
+        return (accessFlags & ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (accessFlags & ACC_ANNOTATION) != 0;
+    }
+
+    public boolean isEnum() {
+        return (accessFlags & ACC_ENUM) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return className;
+    }
+}
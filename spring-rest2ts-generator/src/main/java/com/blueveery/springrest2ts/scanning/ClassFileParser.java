@@ -0,0 +1,189 @@
+package com.blueveery.springrest2ts.scanning;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads constant pool, super types and runtime visible class annotations from class file bytes,
+ * method and field bodies are skipped
+ */
+public class ClassFileParser {
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    public ClassFileInfo parse(byte[] classFileBytes) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(classFileBytes));
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a class file, wrong magic number");
+        }
+        input.readUnsignedShort(); // minor version
+        input.readUnsignedShort(); // major version
+
+        int constantPoolCount = input.readUnsignedShort();
+        String[] utf8Entries = new String[constantPoolCount];
+        int[] classNameIndexes = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    utf8Entries[i] = input.readUTF();
+                    break;
+                case CONSTANT_CLASS:
+                    classNameIndexes[i] = input.readUnsignedShort();
+                    break;
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    input.skipBytes(2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    input.skipBytes(3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    input.skipBytes(4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    input.skipBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        int accessFlags = input.readUnsignedShort();
+        int thisClassIndex = input.readUnsignedShort();
+        String className = toClassName(utf8Entries[classNameIndexes[thisClassIndex]]);
+        int superClassIndex = input.readUnsignedShort();
+        String superClassName = superClassIndex == 0 ? null : toClassName(utf8Entries[classNameIndexes[superClassIndex]]);
+
+        int interfacesCount = input.readUnsignedShort();
+        List<String> interfaceNames = new ArrayList<>(interfacesCount);
+        for (int i = 0; i < interfacesCount; i++) {
+            interfaceNames.add(toClassName(utf8Entries[classNameIndexes[input.readUnsignedShort()]]));
+        }
+
+        skipMembers(input);
+        skipMembers(input);
+
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        List<String> annotationNames = Collections.emptyList();
+        int attributesCount = input.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            String attributeName = utf8Entries[input.readUnsignedShort()];
+            int attributeLength = input.readInt();
+            if ("RuntimeVisibleAnnotations".equals(attributeName)) {
+                annotationNames = readAnnotationNames(input, utf8Entries);
+            } else if ("InnerClasses".equals(attributeName)) {
+                simpleName = readSimpleName(input, utf8Entries, classNameIndexes, thisClassIndex, simpleName);
+            } else {
+                input.skipBytes(attributeLength);
+            }
+        }
+
+        return new ClassFileInfo(className, simpleName, superClassName, interfaceNames, annotationNames, accessFlags);
+    }
+
+    private void skipMembers(DataInputStream input) throws IOException {
+        int membersCount = input.readUnsignedShort();
+        for (int i = 0; i < membersCount; i++) {
+            input.skipBytes(6); // access flags, name and descriptor
+            skipAttributes(input);
+        }
+    }
+
+    private void skipAttributes(DataInputStream input) throws IOException {
+        int attributesCount = input.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            input.skipBytes(2);
+            input.skipBytes(input.readInt());
+        }
+    }
+
+    private List<String> readAnnotationNames(DataInputStream input, String[] utf8Entries) throws IOException {
+        int annotationsCount = input.readUnsignedShort();
+        List<String> annotationNames = new ArrayList<>(annotationsCount);
+        for (int i = 0; i < annotationsCount; i++) {
+            annotationNames.add(readAnnotation(input, utf8Entries));
+        }
+        return annotationNames;
+    }
+
+    private String readAnnotation(DataInputStream input, String[] utf8Entries) throws IOException {
+        String typeDescriptor = utf8Entries[input.readUnsignedShort()];
+        int elementValuePairsCount = input.readUnsignedShort();
+        for (int i = 0; i < elementValuePairsCount; i++) {
+            input.skipBytes(2);
+            skipElementValue(input, utf8Entries);
+        }
+        return toClassName(typeDescriptor.substring(1, typeDescriptor.length() - 1));
+    }
+
+    private void skipElementValue(DataInputStream input, String[] utf8Entries) throws IOException {
+        int tag = input.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                input.skipBytes(4);
+                break;
+            case '@':
+                readAnnotation(input, utf8Entries);
+                break;
+            case '[':
+                int valuesCount = input.readUnsignedShort();
+                for (int i = 0; i < valuesCount; i++) {
+                    skipElementValue(input, utf8Entries);
+                }
+                break;
+            default:
+                input.skipBytes(2);
+        }
+    }
+
+    private String readSimpleName(DataInputStream input, String[] utf8Entries, int[] classNameIndexes, int thisClassIndex, String simpleName) throws IOException {
+        int classesCount = input.readUnsignedShort();
+        for (int i = 0; i < classesCount; i++) {
+            int innerClassIndex = input.readUnsignedShort();
+            input.skipBytes(2); // outer class
+            int innerNameIndex = input.readUnsignedShort();
+            input.skipBytes(2); // inner class access flags
+            if (classNameIndexes[innerClassIndex] == classNameIndexes[thisClassIndex]) {
+                simpleName = innerNameIndex == 0 ? "" : utf8Entries[innerNameIndex];
+            }
+        }
+        return simpleName;
+    }
+
+    private String toClassName(String internalName) {
+        return internalName.replace('/', '.');
+    }
+}
@@ -0,0 +1,24 @@
+package com.blueveery.springrest2ts.scanning;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Class loader which serves classes from locations which are not directories or jars on file system,
+ * class path scanner reads class files of such locations directly from the class loader
+ */
+public interface ClassFileSource {
+
+    /**
+     * @return true if given resource URL was created by this source
+     */
+    boolean isSourceOf(URL url);
+
+    /**
+     * @return content of class files from given package and its subpackages keyed by class name, in stable order,
+     * class files of classes rejected by class name filter are not read
+     */
+    Map<String, byte[]> readClassFiles(URL packageUrl, String packageName, Predicate<String> classNameFilter) throws IOException;
+}
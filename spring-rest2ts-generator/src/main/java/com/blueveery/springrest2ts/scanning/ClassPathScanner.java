@@ -0,0 +1,382 @@
+package com.blueveery.springrest2ts.scanning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Finds class files in given packages and reads them without loading classes
+ */
+public class ClassPathScanner {
+    private static Logger logger = LoggerFactory.getLogger("gen-logger");
+    private static final String SCAN_INDEX_FILE_NAME = "scan-index.bin";
+    private static final String ARCHIVE_SEPARATOR = "!/";
+    private final ClassLoader classLoader;
+    private final ClassFileParser classFileParser = new ClassFileParser();
+    private boolean parallelScanning = false;
+    private Path scanIndexDirectory;
+    private ScanIndex previousScanIndex;
+    private ScanIndex currentScanIndex;
+    private volatile boolean scanIndexModified;
+    private int maxOpenArchives = 8;
+    private Semaphore openArchivesSemaphore;
+
+    public ClassPathScanner(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    public boolean isParallelScanning() {
+        return parallelScanning;
+    }
+
+    /**
+     * In parallel mode class path roots, subdirectories and class files are scanned as fork join tasks,
+     * results are merged in the same order as in sequential mode
+     */
+    public void setParallelScanning(boolean parallelScanning) {
+        this.parallelScanning = parallelScanning;
+    }
+
+    public Path getScanIndexDirectory() {
+        return scanIndexDirectory;
+    }
+
+    /**
+     * Enables scan index stored in given directory, for example target/rest2ts-cache, unchanged archives and
+     * class files are not scanned again in next generator runs
+     */
+    public void setScanIndexDirectory(Path scanIndexDirectory) {
+        this.scanIndexDirectory = scanIndexDirectory;
+    }
+
+    public int getMaxOpenArchives() {
+        return maxOpenArchives;
+    }
+
+    /**
+     * Limits number of archives which are open at the same time during scanning
+     */
+    public void setMaxOpenArchives(int maxOpenArchives) {
+        if (maxOpenArchives < 1) {
+            throw new IllegalArgumentException("At least one archive must be allowed to be open");
+        }
+        this.maxOpenArchives = maxOpenArchives;
+    }
+
+    public List<ClassFileInfo> scan(Set<String> packageSet) throws IOException {
+        return scan(classLoader, packageSet, className -> true);
+    }
+
+    /**
+     * Scans given packages of class path provided by given class loader instead of scanner class loader,
+     * class files of classes rejected by class name filter are not read
+     */
+    public List<ClassFileInfo> scan(ClassLoader classLoader, Set<String> packageSet, Predicate<String> classNameFilter) throws IOException {
+        openScanIndex();
+        openArchivesSemaphore = new Semaphore(maxOpenArchives);
+        List<ForkJoinTask<List<ClassFileInfo>>> rootScanTasks = new ArrayList<>();
+        for (String packageName : packageSet) {
+            Enumeration<URL> urlEnumeration = classLoader.getResources(packageName.replace(".", "/"));
+            while (urlEnumeration.hasMoreElements()) {
+                URL url = urlEnumeration.nextElement();
+                if (classLoader instanceof ClassFileSource && ((ClassFileSource) classLoader).isSourceOf(url)) {
+                    rootScanTasks.add(new SourceScanTask((ClassFileSource) classLoader, url, packageName, classNameFilter));
+                    continue;
+                }
+                URI uri = null;
+                try {
+                    uri = url.toURI();
+                } catch (URISyntaxException e) {
+                    throw new IllegalStateException(e);
+                }
+                rootScanTasks.add(createRootScanTask(uri, packageName, classNameFilter));
+            }
+        }
+
+        try {
+            if (parallelScanning) {
+                ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(rootScanTasks)));
+            } else {
+                rootScanTasks.forEach(ForkJoinTask::invoke);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        List<ClassFileInfo> classFileInfoList = new ArrayList<>();
+        for (ForkJoinTask<List<ClassFileInfo>> rootScanTask : rootScanTasks) {
+            classFileInfoList.addAll(rootScanTask.join());
+        }
+        closeScanIndex();
+        return classFileInfoList;
+    }
+
+    private ForkJoinTask<List<ClassFileInfo>> createRootScanTask(URI uri, String packageName, Predicate<String> classNameFilter) throws IOException {
+        if (!"jar".equals(uri.getScheme())) {
+            return new DirectoryScanTask(Paths.get(uri), packageName, classNameFilter);
+        }
+        String archiveUri = uri.getRawSchemeSpecificPart();
+        int separatorIndex = archiveUri.indexOf(ARCHIVE_SEPARATOR);
+        Path archivePath = Paths.get(URI.create(archiveUri.substring(0, separatorIndex)));
+        if (currentScanIndex == null) {
+            return new ArchiveScanTask(archivePath, packageName, classNameFilter);
+        }
+        // whole package is stored in index, so it could be used with any class name filter
+        ArchiveScanTask archiveScanTask = new ArchiveScanTask(archivePath, packageName, className -> true);
+        String key = uri.toString();
+        long size = Files.size(archivePath);
+        long lastModified = Files.getLastModifiedTime(archivePath).toMillis();
+        List<ClassFileInfo> indexedClassFiles = previousScanIndex.find(key, size, lastModified);
+        if (indexedClassFiles != null) {
+            currentScanIndex.put(key, size, lastModified, indexedClassFiles);
+            return ForkJoinTask.adapt(() -> filterClassFiles(indexedClassFiles, classNameFilter));
+        }
+        return ForkJoinTask.adapt(() -> {
+            List<ClassFileInfo> scannedClassFiles = archiveScanTask.invoke();
+            currentScanIndex.put(key, size, lastModified, scannedClassFiles);
+            scanIndexModified = true;
+            return filterClassFiles(scannedClassFiles, classNameFilter);
+        });
+    }
+
+    private List<ClassFileInfo> filterClassFiles(List<ClassFileInfo> classFileInfoList, Predicate<String> classNameFilter) {
+        List<ClassFileInfo> filteredClassFileInfoList = new ArrayList<>();
+        for (ClassFileInfo classFileInfo : classFileInfoList) {
+            if (classNameFilter.test(classFileInfo.getClassName())) {
+                filteredClassFileInfoList.add(classFileInfo);
+            }
+        }
+        return filteredClassFileInfoList;
+    }
+
+    private void openScanIndex() {
+        if (scanIndexDirectory == null) {
+            return;
+        }
+        try {
+            previousScanIndex = ScanIndex.read(scanIndexDirectory.resolve(SCAN_INDEX_FILE_NAME));
+        } catch (IOException e) {
+            logger.warn(String.format("Failed to read scan index due to error %s:%s", e.getClass().getSimpleName(), e.getMessage()));
+            previousScanIndex = new ScanIndex();
+        }
+        currentScanIndex = new ScanIndex();
+        scanIndexModified = false;
+    }
+
+    /**
+     * Index is written only if some entry was scanned again or entries were added or removed, so scan of unchanged
+     * class path doesn't write anything
+     */
+    private void closeScanIndex() throws IOException {
+        if (currentScanIndex != null) {
+            if (scanIndexModified || currentScanIndex.size() != previousScanIndex.size()) {
+                currentScanIndex.write(scanIndexDirectory.resolve(SCAN_INDEX_FILE_NAME));
+            }
+            previousScanIndex = null;
+            currentScanIndex = null;
+        }
+    }
+
+    private String getClassName(String packageName, Path classFilePath) {
+        return (packageName + "/" + classFilePath.getFileName().toString()).replace(".class", "").replace("/", ".");
+    }
+
+    private ClassFileInfo readClassFile(String className, Path classFilePath) {
+        try {
+            if (currentScanIndex != null && classFilePath.getFileSystem() == FileSystems.getDefault()) {
+                return readIndexedClassFile(classFilePath);
+            }
+            return classFileParser.parse(Files.readAllBytes(classFilePath));
+        } catch (IOException | RuntimeException e) {
+            return createUnparsedClassFile(className, e);
+        }
+    }
+
+    private ClassFileInfo parseClassFile(String className, byte[] classFileBytes) {
+        try {
+            return classFileParser.parse(classFileBytes);
+        } catch (IOException | RuntimeException e) {
+            return createUnparsedClassFile(className, e);
+        }
+    }
+
+    private ClassFileInfo createUnparsedClassFile(String className, Exception e) {
+        logger.warn(String.format("Failed to read class file %s due to error %s:%s", className, e.getClass().getSimpleName(), e.getMessage()));
+        return new ClassFileInfo(className);
+    }
+
+    private void runSubTask(ForkJoinTask<List<ClassFileInfo>> subTask) {
+        if (parallelScanning) {
+            subTask.fork();
+        } else {
+            subTask.invoke();
+        }
+    }
+
+    private List<ClassFileInfo> joinSubTasks(List<ForkJoinTask<List<ClassFileInfo>>> subTasks) {
+        List<ClassFileInfo> classFileInfoList = new ArrayList<>();
+        for (ForkJoinTask<List<ClassFileInfo>> subTask : subTasks) {
+            classFileInfoList.addAll(subTask.join());
+        }
+        return classFileInfoList;
+    }
+
+    private ClassFileInfo readIndexedClassFile(Path classFilePath) throws IOException {
+        String key = classFilePath.toAbsolutePath().toString();
+        BasicFileAttributes attributes = Files.readAttributes(classFilePath, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        List<ClassFileInfo> indexedClassFiles = previousScanIndex.find(key, size, lastModified);
+        if (indexedClassFiles == null) {
+            indexedClassFiles = Collections.singletonList(classFileParser.parse(Files.readAllBytes(classFilePath)));
+            scanIndexModified = true;
+        }
+        currentScanIndex.put(key, size, lastModified, indexedClassFiles);
+        return indexedClassFiles.get(0);
+    }
+
+    private class DirectoryScanTask extends RecursiveTask<List<ClassFileInfo>> {
+        private final Path directory;
+        private final String packageName;
+        private final Predicate<String> classNameFilter;
+
+        DirectoryScanTask(Path directory, String packageName, Predicate<String> classNameFilter) {
+            this.directory = directory;
+            this.packageName = packageName;
+            this.classNameFilter = classNameFilter;
+        }
+
+        @Override
+        protected List<ClassFileInfo> compute() {
+            List<ForkJoinTask<List<ClassFileInfo>>> subTasks = new ArrayList<>();
+            try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+                for (Path nextPath : directoryStream) {
+                    ForkJoinTask<List<ClassFileInfo>> subTask;
+                    if (Files.isDirectory(nextPath)) {
+                        subTask = new DirectoryScanTask(nextPath, packageName + "." + nextPath.getFileName(), classNameFilter);
+                    } else if (nextPath.toString().endsWith(".class")) {
+                        String className = getClassName(packageName, nextPath);
+                        if (!classNameFilter.test(className)) {
+                            continue;
+                        }
+                        subTask = ForkJoinTask.adapt(() -> Collections.singletonList(readClassFile(className, nextPath)));
+                    } else {
+                        continue;
+                    }
+                    runSubTask(subTask);
+                    subTasks.add(subTask);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return joinSubTasks(subTasks);
+        }
+    }
+
+    /**
+     * Parses class files which are read into memory at once from single class path root
+     */
+    private abstract class ClassFilesScanTask extends RecursiveTask<List<ClassFileInfo>> {
+
+        protected abstract Map<String, byte[]> readClassFiles() throws IOException;
+
+        @Override
+        protected List<ClassFileInfo> compute() {
+            Map<String, byte[]> classFiles;
+            try {
+                classFiles = readClassFiles();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            List<ForkJoinTask<List<ClassFileInfo>>> subTasks = new ArrayList<>();
+            for (Map.Entry<String, byte[]> classFile : classFiles.entrySet()) {
+                String className = classFile.getKey();
+                byte[] classFileBytes = classFile.getValue();
+                ForkJoinTask<List<ClassFileInfo>> subTask = ForkJoinTask.adapt(() -> Collections.singletonList(parseClassFile(className, classFileBytes)));
+                runSubTask(subTask);
+                subTasks.add(subTask);
+            }
+            return joinSubTasks(subTasks);
+        }
+    }
+
+    /**
+     * Reads class files of given package from archive central directory, archive is closed before class files are parsed
+     */
+    private class ArchiveScanTask extends ClassFilesScanTask {
+        private final Path archivePath;
+        private final String packageName;
+        private final Predicate<String> classNameFilter;
+
+        ArchiveScanTask(Path archivePath, String packageName, Predicate<String> classNameFilter) {
+            this.archivePath = archivePath;
+            this.packageName = packageName;
+            this.classNameFilter = classNameFilter;
+        }
+
+        @Override
+        protected Map<String, byte[]> readClassFiles() throws IOException {
+            String entryPrefix = packageName.replace(".", "/") + "/";
+            Map<String, byte[]> classFiles = new LinkedHashMap<>();
+            openArchivesSemaphore.acquireUninterruptibly();
+            try (ZipFile zipFile = new ZipFile(archivePath.toFile())) {
+                Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    String entryName = entry.getName();
+                    if (!entry.isDirectory() && entryName.startsWith(entryPrefix) && entryName.endsWith(".class")) {
+                        String className = entryName.substring(0, entryName.length() - ".class".length()).replace("/", ".");
+                        if (!classNameFilter.test(className)) {
+                            continue;
+                        }
+                        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                            classFiles.put(className, ClassFileHierarchy.readAllBytes(inputStream));
+                        }
+                    }
+                }
+            } finally {
+                openArchivesSemaphore.release();
+            }
+            return classFiles;
+        }
+    }
+
+    private class SourceScanTask extends ClassFilesScanTask {
+        private final ClassFileSource classFileSource;
+        private final URL packageUrl;
+        private final String packageName;
+        private final Predicate<String> classNameFilter;
+
+        SourceScanTask(ClassFileSource classFileSource, URL packageUrl, String packageName, Predicate<String> classNameFilter) {
+            this.classFileSource = classFileSource;
+            this.packageUrl = packageUrl;
+            this.packageName = packageName;
+            this.classNameFilter = classNameFilter;
+        }
+
+        @Override
+        protected Map<String, byte[]> readClassFiles() throws IOException {
+            return classFileSource.readClassFiles(packageUrl, packageName, classNameFilter);
+        }
+    }
+}
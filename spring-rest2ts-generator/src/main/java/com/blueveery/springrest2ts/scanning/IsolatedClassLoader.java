@@ -0,0 +1,34 @@
+package com.blueveery.springrest2ts.scanning;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Disposable class loader over explicit class path, it is created for single generation and closed after modules
+ * are written. Parent class loader should provide generator and libraries used in generator configuration
+ */
+public class IsolatedClassLoader extends URLClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    public IsolatedClassLoader(List<Path> classPath, ClassLoader parent) {
+        super(toUrls(classPath), parent);
+    }
+
+    private static URL[] toUrls(List<Path> classPath) {
+        URL[] urls = new URL[classPath.size()];
+        for (int i = 0; i < urls.length; i++) {
+            try {
+                urls[i] = classPath.get(i).toAbsolutePath().toUri().toURL();
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return urls;
+    }
+}
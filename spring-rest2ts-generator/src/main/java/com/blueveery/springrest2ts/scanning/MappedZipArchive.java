@@ -0,0 +1,166 @@
+package com.blueveery.springrest2ts.scanning;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Read only zip archive over byte buffer, used for memory mapped archives and archives nested in them.
+ * Only central directory is read when archive is opened, entries are read on demand
+ */
+class MappedZipArchive {
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int CENTRAL_DIRECTORY_ENTRY_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_ENTRY_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_LENGTH = 0xffff;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private final ByteBuffer buffer;
+    private final Map<String, Entry> entryMap = new LinkedHashMap<>();
+
+    MappedZipArchive(ByteBuffer buffer) throws ZipException {
+        this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        readCentralDirectory();
+    }
+
+    Set<String> getEntryNames() {
+        return Collections.unmodifiableSet(entryMap.keySet());
+    }
+
+    boolean contains(String entryName) {
+        return entryMap.containsKey(entryName);
+    }
+
+    /**
+     * @return entry content as buffer which shares memory with archive for stored entries, or null if there is no such entry
+     */
+    ByteBuffer read(String entryName) throws ZipException {
+        Entry entry = entryMap.get(entryName);
+        if (entry == null) {
+            return null;
+        }
+        int localHeaderOffset = entry.localHeaderOffset;
+        if (buffer.getInt(localHeaderOffset) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ZipException(String.format("Invalid local header of entry %s", entryName));
+        }
+        int nameLength = buffer.getShort(localHeaderOffset + 26) & 0xffff;
+        int extraLength = buffer.getShort(localHeaderOffset + 28) & 0xffff;
+        ByteBuffer data = slice(localHeaderOffset + LOCAL_FILE_HEADER_SIZE + nameLength + extraLength, entry.compressedSize);
+        switch (entry.method) {
+            case STORED:
+                return data;
+            case DEFLATED:
+                return ByteBuffer.wrap(inflate(entryName, data, entry.size));
+            default:
+                throw new ZipException(String.format("Unsupported compression method %s of entry %s", entry.method, entryName));
+        }
+    }
+
+    byte[] readBytes(String entryName) throws ZipException {
+        ByteBuffer data = read(entryName);
+        if (data == null) {
+            return null;
+        }
+        if (data.hasArray() && data.arrayOffset() == 0 && data.remaining() == data.array().length) {
+            return data.array();
+        }
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        return bytes;
+    }
+
+    private void readCentralDirectory() throws ZipException {
+        int endOfCentralDirectoryOffset = findEndOfCentralDirectory();
+        int entriesCount = buffer.getShort(endOfCentralDirectoryOffset + 10) & 0xffff;
+        long centralDirectoryOffset = buffer.getInt(endOfCentralDirectoryOffset + 16) & 0xffffffffL;
+        if (entriesCount == 0xffff || centralDirectoryOffset == 0xffffffffL) {
+            throw new ZipException("Zip64 archives are not supported");
+        }
+        int offset = (int) centralDirectoryOffset;
+        for (int i = 0; i < entriesCount; i++) {
+            if (buffer.getInt(offset) != CENTRAL_DIRECTORY_ENTRY_SIGNATURE) {
+                throw new ZipException("Invalid central directory entry");
+            }
+            int method = buffer.getShort(offset + 10) & 0xffff;
+            int compressedSize = buffer.getInt(offset + 20);
+            int size = buffer.getInt(offset + 24);
+            int nameLength = buffer.getShort(offset + 28) & 0xffff;
+            int extraLength = buffer.getShort(offset + 30) & 0xffff;
+            int commentLength = buffer.getShort(offset + 32) & 0xffff;
+            int localHeaderOffset = buffer.getInt(offset + 42);
+            byte[] nameBytes = new byte[nameLength];
+            slice(offset + CENTRAL_DIRECTORY_ENTRY_SIZE, nameLength).get(nameBytes);
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+            entryMap.put(name, new Entry(method, compressedSize, size, localHeaderOffset));
+            offset += CENTRAL_DIRECTORY_ENTRY_SIZE + nameLength + extraLength + commentLength;
+        }
+    }
+
+    private int findEndOfCentralDirectory() throws ZipException {
+        int lastOffset = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+        int firstOffset = Math.max(0, lastOffset - MAX_COMMENT_LENGTH);
+        for (int offset = lastOffset; offset >= firstOffset; offset--) {
+            if (buffer.getInt(offset) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return offset;
+            }
+        }
+        throw new ZipException("End of central directory not found");
+    }
+
+    private ByteBuffer slice(int offset, int length) {
+        ByteBuffer duplicate = buffer.duplicate();
+        ((Buffer) duplicate).position(offset);
+        ((Buffer) duplicate).limit(offset + length);
+        return duplicate.slice();
+    }
+
+    private byte[] inflate(String entryName, ByteBuffer data, int size) throws ZipException {
+        // inflater without zlib header may require additional dummy byte at the end of input
+        byte[] compressedBytes = new byte[data.remaining() + 1];
+        data.get(compressedBytes, 0, compressedBytes.length - 1);
+        byte[] bytes = new byte[size];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressedBytes);
+            int inflatedBytes = 0;
+            while (inflatedBytes < size && !inflater.finished()) {
+                int count = inflater.inflate(bytes, inflatedBytes, size - inflatedBytes);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflatedBytes += count;
+            }
+            if (inflatedBytes != size) {
+                throw new ZipException(String.format("Invalid size of entry %s", entryName));
+            }
+            return bytes;
+        } catch (DataFormatException e) {
+            throw new ZipException(String.format("Invalid content of entry %s: %s", entryName, e.getMessage()));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static class Entry {
+        private final int method;
+        private final int compressedSize;
+        private final int size;
+        private final int localHeaderOffset;
+
+        Entry(int method, int compressedSize, int size, int localHeaderOffset) {
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+    }
+}
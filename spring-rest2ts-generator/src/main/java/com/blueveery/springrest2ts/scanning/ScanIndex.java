@@ -0,0 +1,146 @@
+package com.blueveery.springrest2ts.scanning;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scanned class files stored on disk between generator runs, entries are keyed by class file or archive location
+ * and are valid as long as size and modification time of the scanned file are unchanged
+ */
+public class ScanIndex {
+    private static final int FORMAT_VERSION = 2;
+
+    private final Map<String, Entry> entryMap = new ConcurrentHashMap<>();
+
+    public static ScanIndex read(Path indexFile) throws IOException {
+        ScanIndex scanIndex = new ScanIndex();
+        if (!Files.exists(indexFile)) {
+            return scanIndex;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return scanIndex;
+            }
+            int entriesCount = input.readInt();
+            for (int i = 0; i < entriesCount; i++) {
+                String key = input.readUTF();
+                long size = input.readLong();
+                long lastModified = input.readLong();
+                int classesCount = input.readInt();
+                List<ClassFileInfo> classFileInfoList = new ArrayList<>(classesCount);
+                for (int j = 0; j < classesCount; j++) {
+                    classFileInfoList.add(readClassFileInfo(input));
+                }
+                scanIndex.entryMap.put(key, new Entry(size, lastModified, classFileInfoList));
+            }
+        }
+        return scanIndex;
+    }
+
+    public void write(Path indexFile) throws IOException {
+        Files.createDirectories(indexFile.toAbsolutePath().getParent());
+        Path tempIndexFile = Files.createTempFile(indexFile.toAbsolutePath().getParent(), indexFile.getFileName().toString(), ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempIndexFile)))) {
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(entryMap.size());
+            for (Map.Entry<String, Entry> mapEntry : entryMap.entrySet()) {
+                Entry entry = mapEntry.getValue();
+                output.writeUTF(mapEntry.getKey());
+                output.writeLong(entry.size);
+                output.writeLong(entry.lastModified);
+                output.writeInt(entry.classFileInfoList.size());
+                for (ClassFileInfo classFileInfo : entry.classFileInfoList) {
+                    writeClassFileInfo(output, classFileInfo);
+                }
+            }
+        }
+        Files.move(tempIndexFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * @return class files stored for given key or null if there is no entry or scanned file has changed
+     */
+    public List<ClassFileInfo> find(String key, long size, long lastModified) {
+        Entry entry = entryMap.get(key);
+        if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+            return entry.classFileInfoList;
+        }
+        return null;
+    }
+
+    public void put(String key, long size, long lastModified, List<ClassFileInfo> classFileInfoList) {
+        entryMap.put(key, new Entry(size, lastModified, classFileInfoList));
+    }
+
+    public int size() {
+        return entryMap.size();
+    }
+
+    private static ClassFileInfo readClassFileInfo(DataInputStream input) throws IOException {
+        boolean parsed = input.readBoolean();
+        String className = input.readUTF();
+        if (!parsed) {
+            return new ClassFileInfo(className);
+        }
+        String simpleName = input.readUTF();
+        String superClassName = input.readBoolean() ? input.readUTF() : null;
+        List<String> interfaceNames = readStringList(input);
+        List<String> annotationNames = readStringList(input);
+        int accessFlags = input.readInt();
+        return new ClassFileInfo(className, simpleName, superClassName, interfaceNames, annotationNames, accessFlags);
+    }
+
+    private static void writeClassFileInfo(DataOutputStream output, ClassFileInfo classFileInfo) throws IOException {
+        output.writeBoolean(classFileInfo.isParsed());
+        output.writeUTF(classFileInfo.getClassName());
+        if (!classFileInfo.isParsed()) {
+            return;
+        }
+        output.writeUTF(classFileInfo.getSimpleName());
+        output.writeBoolean(classFileInfo.getSuperClassName() != null);
+        if (classFileInfo.getSuperClassName() != null) {
+            output.writeUTF(classFileInfo.getSuperClassName());
+        }
+        writeStringList(output, classFileInfo.getInterfaceNames());
+        writeStringList(output, classFileInfo.getAnnotationNames());
+        output.writeInt(classFileInfo.getAccessFlags());
+    }
+
+    private static List<String> readStringList(DataInputStream input) throws IOException {
+        int size = input.readInt();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<String> stringList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            stringList.add(input.readUTF());
+        }
+        return stringList;
+    }
+
+    private static void writeStringList(DataOutputStream output, List<String> stringList) throws IOException {
+        output.writeInt(stringList.size());
+        for (String string : stringList) {
+            output.writeUTF(string);
+        }
+    }
+
+    private static class Entry {
+        private final long size;
+        private final long lastModified;
+        private final List<ClassFileInfo> classFileInfoList;
+
+        Entry(long size, long lastModified, List<ClassFileInfo> classFileInfoList) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.classFileInfoList = classFileInfoList;
+        }
+    }
+}
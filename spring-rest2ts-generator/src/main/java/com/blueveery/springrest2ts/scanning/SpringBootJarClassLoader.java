@@ -0,0 +1,254 @@
+package com.blueveery.springrest2ts.scanning;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.zip.ZipException;
+
+/**
+ * Loads classes from Spring Boot executable jar without unpacking it. Application classes are read from
+ * BOOT-INF/classes and dependencies from jars nested in BOOT-INF/lib, executable jar is memory mapped and
+ * nested jars which are stored without compression are read directly from mapped memory.
+ * Classes are searched in parent class loader first, so types used in generator configuration
+ * like annotations in filters are shared with the generator. Class loader should be closed when generation is
+ * finished, closing releases mapped memory, so it must not be used concurrently with close
+ */
+public class SpringBootJarClassLoader extends ClassLoader implements ClassFileSource, Closeable {
+    private static final String PROTOCOL = "rest2ts-boot";
+    private static final String CLASSES_ROOT = "BOOT-INF/classes/";
+    private static final String LIB_ROOT = "BOOT-INF/lib/";
+    private static final String ROOT_SEPARATOR = "!/";
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final Path executableJarPath;
+    private final ByteBuffer mappedJar;
+    private volatile Map<String, ArchiveRoot> rootMap;
+    private final URLStreamHandler urlStreamHandler = new ArchiveRootURLStreamHandler();
+
+    public SpringBootJarClassLoader(Path executableJarPath, ClassLoader parent) throws IOException {
+        super(parent);
+        this.executableJarPath = executableJarPath;
+        try (FileChannel fileChannel = FileChannel.open(executableJarPath, StandardOpenOption.READ)) {
+            mappedJar = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+        }
+        Map<String, ArchiveRoot> archiveRootMap = new LinkedHashMap<>();
+        try {
+            MappedZipArchive executableJar = new MappedZipArchive(mappedJar);
+            archiveRootMap.put(CLASSES_ROOT, new ArchiveRoot(CLASSES_ROOT, executableJar, CLASSES_ROOT));
+            for (String entryName : executableJar.getEntryNames()) {
+                if (entryName.startsWith(LIB_ROOT) && entryName.endsWith(".jar")) {
+                    MappedZipArchive nestedJar = new MappedZipArchive(executableJar.read(entryName));
+                    archiveRootMap.put(entryName, new ArchiveRoot(entryName, nestedJar, ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            unmap(mappedJar);
+            throw e;
+        }
+        rootMap = archiveRootMap;
+    }
+
+    public Path getExecutableJarPath() {
+        return executableJarPath;
+    }
+
+    /**
+     * Classes which are already loaded stay usable, no new classes or resources are found after close
+     */
+    @Override
+    public void close() {
+        if (rootMap.isEmpty()) {
+            return;
+        }
+        rootMap = Collections.emptyMap();
+        unmap(mappedJar);
+    }
+
+    /**
+     * Releases mapped memory right away instead of waiting for garbage collection, which on some systems keeps
+     * the jar file locked. If JVM doesn't allow it, memory is released by garbage collector
+     */
+    private static void unmap(ByteBuffer mappedBuffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleanerMethod = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafeField.setAccessible(true);
+            invokeCleanerMethod.invoke(theUnsafeField.get(null), mappedBuffer);
+        } catch (NoSuchMethodException e) {
+            // JDK 8 doesn't have Unsafe.invokeCleaner, direct buffer cleaner is used instead
+            try {
+                Method cleanerMethod = mappedBuffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(mappedBuffer);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            } catch (ReflectiveOperationException | RuntimeException ignore) {
+            }
+        } catch (ReflectiveOperationException | RuntimeException ignore) {
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        String resourceName = name.replace('.', '/') + ".class";
+        for (ArchiveRoot archiveRoot : rootMap.values()) {
+            if (archiveRoot.contains(resourceName)) {
+                try {
+                    definePackageIfNeeded(name);
+                    return defineClass(name, archiveRoot.read(resourceName), null);
+                } catch (ZipException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+        throw new ClassNotFoundException(name);
+    }
+
+    @Override
+    protected URL findResource(String name) {
+        for (ArchiveRoot archiveRoot : rootMap.values()) {
+            if (archiveRoot.contains(name)) {
+                return createUrl(archiveRoot, name);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected Enumeration<URL> findResources(String name) {
+        String directoryName = name.endsWith("/") ? name : name + "/";
+        List<URL> urlList = new ArrayList<>();
+        for (ArchiveRoot archiveRoot : rootMap.values()) {
+            if (archiveRoot.contains(name) || archiveRoot.containsEntriesOf(directoryName)) {
+                urlList.add(createUrl(archiveRoot, name));
+            }
+        }
+        return Collections.enumeration(urlList);
+    }
+
+    @Override
+    public boolean isSourceOf(URL url) {
+        return PROTOCOL.equals(url.getProtocol());
+    }
+
+    @Override
+    public Map<String, byte[]> readClassFiles(URL packageUrl, String packageName, Predicate<String> classNameFilter) throws IOException {
+        ArchiveRoot archiveRoot = findArchiveRoot(packageUrl);
+        String packagePrefix = packageName.replace('.', '/') + "/";
+        Map<String, byte[]> classFiles = new LinkedHashMap<>();
+        for (String entryName : archiveRoot.archive.getEntryNames()) {
+            if (entryName.startsWith(archiveRoot.prefix) && entryName.endsWith(".class")) {
+                String resourceName = entryName.substring(archiveRoot.prefix.length());
+                if (resourceName.startsWith(packagePrefix)) {
+                    String className = resourceName.substring(0, resourceName.length() - ".class".length()).replace('/', '.');
+                    if (classNameFilter.test(className)) {
+                        classFiles.put(className, archiveRoot.archive.readBytes(entryName));
+                    }
+                }
+            }
+        }
+        return classFiles;
+    }
+
+    private void definePackageIfNeeded(String className) {
+        int lastDotIndex = className.lastIndexOf('.');
+        if (lastDotIndex < 0) {
+            return;
+        }
+        String packageName = className.substring(0, lastDotIndex);
+        if (getPackage(packageName) == null) {
+            try {
+                definePackage(packageName, null, null, null, null, null, null, null);
+            } catch (IllegalArgumentException ignore) {
+                // package was defined concurrently
+            }
+        }
+    }
+
+    private URL createUrl(ArchiveRoot archiveRoot, String resourceName) {
+        try {
+            return new URL(PROTOCOL, null, -1, "/" + archiveRoot.name + ROOT_SEPARATOR + resourceName, urlStreamHandler);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ArchiveRoot findArchiveRoot(URL url) throws IOException {
+        String file = url.getFile();
+        int separatorIndex = file.indexOf(ROOT_SEPARATOR);
+        ArchiveRoot archiveRoot = separatorIndex < 0 ? null : rootMap.get(file.substring(1, separatorIndex));
+        if (archiveRoot == null) {
+            throw new IOException(String.format("Unknown archive root of URL %s", url));
+        }
+        return archiveRoot;
+    }
+
+    private static class ArchiveRoot {
+        private final String name;
+        private final MappedZipArchive archive;
+        private final String prefix;
+
+        ArchiveRoot(String name, MappedZipArchive archive, String prefix) {
+            this.name = name;
+            this.archive = archive;
+            this.prefix = prefix;
+        }
+
+        boolean contains(String resourceName) {
+            return archive.contains(prefix + resourceName);
+        }
+
+        boolean containsEntriesOf(String directoryName) {
+            String entryPrefix = prefix + directoryName;
+            for (String entryName : archive.getEntryNames()) {
+                if (entryName.startsWith(entryPrefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        ByteBuffer read(String resourceName) throws ZipException {
+            return archive.read(prefix + resourceName);
+        }
+    }
+
+    private class ArchiveRootURLStreamHandler extends URLStreamHandler {
+        @Override
+        protected URLConnection openConnection(URL url) throws IOException {
+            String resourceName = url.getFile().substring(url.getFile().indexOf(ROOT_SEPARATOR) + ROOT_SEPARATOR.length());
+            return new URLConnection(url) {
+                @Override
+                public void connect() {
+                    connected = true;
+                }
+
+                @Override
+                public InputStream getInputStream() throws IOException {
+                    ArchiveRoot archiveRoot = findArchiveRoot(url);
+                    byte[] bytes = archiveRoot.archive.readBytes(archiveRoot.prefix + resourceName);
+                    if (bytes == null) {
+                        throw new IOException(String.format("Resource %s not found", url));
+                    }
+                    return new ByteArrayInputStream(bytes);
+                }
+            };
+        }
+    }
+}
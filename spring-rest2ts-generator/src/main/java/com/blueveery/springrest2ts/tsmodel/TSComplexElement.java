@@ -10,17 +10,17 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Created by tomaszw on 30.07.2017.
  */
 public abstract class TSComplexElement extends TSScopedElement implements IDecorated, IParameterizedWithFormalTypes {
-    private SortedSet<TSField> tsFields = new TreeSet<>();
-    private SortedSet<TSMethod> tsMethods = new TreeSet<>();
+    private SortedSet<TSField> tsFields = new ConcurrentSkipListSet<>();
+    private SortedSet<TSMethod> tsMethods = new ConcurrentSkipListSet<>();
     private List<TSDecorator> tsDecoratorList = new ArrayList<>();
 
-    private boolean converted;
+    private volatile boolean converted;
     protected ImplementationGenerator implementationGenerator;
     private List<TSFormalTypeParameter> tsFormalTypeParameterList = new ArrayList<>();
 
@@ -4,14 +4,14 @@ package com.blueveery.springrest2ts.tsmodel;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * Created by tomaszw on 30.07.2017.
  */
 public class TSImport extends TSElement{
     private TSModule fromModule;
-    private SortedSet<TSScopedElement> what = new TreeSet<>();
+    private SortedSet<TSScopedElement> what = new ConcurrentSkipListSet<>();
 
     public TSModule getFromModule() {
         return fromModule;
@@ -4,10 +4,10 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.util.Map;
 import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public class TSJsonLiteral extends TSElement implements ILiteral{
-    SortedMap<String, ILiteral> fieldMap = new TreeMap<>();
+    SortedMap<String, ILiteral> fieldMap = new ConcurrentSkipListMap<>();
 
     public TSJsonLiteral() {
         super("");
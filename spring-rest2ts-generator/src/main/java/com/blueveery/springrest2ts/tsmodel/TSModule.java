@@ -4,12 +4,19 @@ package com.blueveery.springrest2ts.tsmodel;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
-import com.blueveery.springrest2ts.Rest2tsGenerator;
 import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.jfr.GeneratorEvent;
+import com.blueveery.springrest2ts.jfr.GeneratorEvents;
 
 import com.blueveery.springrest2ts.tsmodel.generics.IParameterizedWithFormalTypes;
 import com.blueveery.springrest2ts.tsmodel.generics.TSClassReference;
@@ -22,11 +29,13 @@ import static com.blueveery.springrest2ts.tsmodel.ModuleExtensionType.typing;
 
 /**
  * Created by tomaszw on 30.07.2017.
+ * Imports and scoped elements are kept in concurrent sorted collections, so types of one module could be converted
+ * in parallel
  */
 public class TSModule extends TSElement {
     private boolean isExternal = false;
-    private Map<TSModule, TSImport> importMap = new TreeMap<>();
-    private SortedSet<TSScopedElement> scopedTypesSet = new TreeSet<>();
+    private Map<TSModule, TSImport> importMap = new ConcurrentSkipListMap<>();
+    private SortedSet<TSScopedElement> scopedTypesSet = new ConcurrentSkipListSet<>();
     private Path moduleRelativePath;
     private ModuleExtensionType moduleExtensionType = typing;
 
@@ -48,14 +57,67 @@ public class TSModule extends TSElement {
         return isExternal;
     }
 
+    public ModuleExtensionType getModuleExtensionType() {
+        return moduleExtensionType;
+    }
+
+    public void setModuleExtensionType(ModuleExtensionType moduleExtensionType) {
+        this.moduleExtensionType = moduleExtensionType;
+    }
+
+    public Map<TSModule, TSImport> getImportMap() {
+        return importMap;
+    }
+
+    public SortedSet<TSScopedElement> getScopedTypesSet() {
+        return scopedTypesSet;
+    }
+
+    /**
+     * Module is rendered in memory and its file is replaced only if content changed, so unchanged files keep their
+     * modification time and don't trigger file watchers. New content is written to temporary file which is moved over
+     * module file, so readers never see partially written module
+     */
     public void writeModule(Path outputDir, Logger logger) throws IOException {
+        writeModuleIfChanged(outputDir, logger);
+    }
+
+    /**
+     * Writes module like {@link #writeModule(Path, Logger)}
+     * @return true if module file was written, false if its content was unchanged
+     */
+    public boolean writeModuleIfChanged(Path outputDir, Logger logger) throws IOException {
         Path tsModuleDir = outputDir.resolve(moduleRelativePath);
         Files.createDirectories(tsModuleDir);
-        Path tsModuleFile = tsModuleDir.resolve(getName() + "." + moduleExtensionType);
+        String tsModuleFileName = getName() + "." + moduleExtensionType;
+        Path tsModuleFile = tsModuleDir.resolve(tsModuleFileName);
+        GeneratorEvent writeEvent = GeneratorEvents.moduleWriteStarted(getName(), tsModuleFile.toString());
+        StringWriter moduleContent = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(moduleContent)) {
+            write(writer);
+        }
+        byte[] moduleBytes = moduleContent.toString().getBytes(StandardCharsets.UTF_8);
+        if (Files.isRegularFile(tsModuleFile) && Files.size(tsModuleFile) == moduleBytes.length
+                && Arrays.equals(Files.readAllBytes(tsModuleFile), moduleBytes)) {
+            logger.info(String.format("Module %s is unchanged", tsModuleFile.toAbsolutePath().normalize().toUri()));
+            writeEvent.commit();
+            return false;
+        }
+
         logger.info(String.format("Generating module into %s", tsModuleFile.toAbsolutePath().normalize().toUri()));
-        BufferedWriter writer = Files.newBufferedWriter(tsModuleFile);
-        write(writer);
-        writer.close();
+        Path tempModuleFile = tsModuleDir.resolve("." + tsModuleFileName + ".tmp");
+        try {
+            Files.write(tempModuleFile, moduleBytes);
+            try {
+                Files.move(tempModuleFile, tsModuleFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempModuleFile, tsModuleFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempModuleFile);
+        }
+        writeEvent.commit();
+        return true;
     }
 
     @Override
@@ -112,7 +174,7 @@ public class TSModule extends TSElement {
 
     public void addScopedElement(TSScopedElement tsScopedElement) {
         scopedTypesSet.add(tsScopedElement);
-        if(tsScopedElement instanceof TSClass || !Rest2tsGenerator.generateAmbientModules){
+        if(tsScopedElement instanceof TSClass){
             moduleExtensionType = implementation;
         }
     }
@@ -144,11 +206,7 @@ public class TSModule extends TSElement {
     public void scopedTypeUsage(TSScopedElement tsScopedElement) {
         TSModule module = tsScopedElement.getModule();
         if(module != this && module != TypeMapper.systemModule){
-            TSImport tsImport = importMap.get(module);
-            if(tsImport == null){
-                tsImport = new TSImport(module);
-                importMap.put(module, tsImport);
-            }
+            TSImport tsImport = importMap.computeIfAbsent(module, TSImport::new);
             tsImport.getWhat().add(tsScopedElement);
         }
     }
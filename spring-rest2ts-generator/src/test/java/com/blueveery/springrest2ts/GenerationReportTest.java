@@ -0,0 +1,94 @@
+package com.blueveery.springrest2ts;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.*;
+
+public class GenerationReportTest {
+    private static final int ALLOCATED_ARRAY_SIZE = 16 * 1024 * 1024;
+
+    private static volatile byte[] allocatedArray;
+
+    @Test
+    public void phaseWithTerminatedThreadIsNotMeasured() throws InterruptedException {
+        assumeAllocationMeasured();
+        GenerationReport generationReport = new GenerationReport();
+        generationReport.phaseStarted("convert");
+        Thread workerThread = new Thread(() -> {
+            generationReport.threadStarted();
+            allocatedArray = new byte[ALLOCATED_ARRAY_SIZE];
+        });
+        workerThread.start();
+        workerThread.join();
+        assertEquals(-1, finishPhase(generationReport));
+    }
+
+    @Test
+    public void allocationOfWaitingThreadIsSummedOverPhases() throws InterruptedException {
+        assumeAllocationMeasured();
+        GenerationReport generationReport = new GenerationReport();
+        Object lock = new Object();
+        int[] allocatedPhasesCount = new int[1];
+        Thread writerThread = new Thread(() -> {
+            synchronized (lock) {
+                generationReport.threadStarted();
+                allocatedArray = new byte[ALLOCATED_ARRAY_SIZE];
+                allocatedPhasesCount[0]++;
+                lock.notifyAll();
+                while (allocatedPhasesCount[0] < 2) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        });
+        generationReport.phaseStarted("convert");
+        synchronized (lock) {
+            writerThread.start();
+            while (allocatedPhasesCount[0] < 1) {
+                lock.wait();
+            }
+        }
+        assertTrue(finishPhase(generationReport) >= ALLOCATED_ARRAY_SIZE);
+
+        generationReport.phaseStarted("writing");
+        assertTrue(finishPhase(generationReport) < ALLOCATED_ARRAY_SIZE);
+        synchronized (lock) {
+            allocatedPhasesCount[0]++;
+            lock.notifyAll();
+        }
+        writerThread.join();
+    }
+
+    @Test
+    public void phaseWithUntrackedThreadsIsNotMeasured() {
+        GenerationReport generationReport = new GenerationReport();
+        generationReport.phaseStarted("scanning");
+        generationReport.untrackedThreadsUsed();
+        assertEquals(-1, finishPhase(generationReport));
+        generationReport.phaseStarted("filtering");
+        assertEquals(isAllocationMeasured(), finishPhase(generationReport) >= 0);
+    }
+
+    private long finishPhase(GenerationReport generationReport) {
+        generationReport.phaseFinished();
+        return generationReport.getPhases().get(generationReport.getPhases().size() - 1).getAllocatedBytes();
+    }
+
+    private void assumeAllocationMeasured() {
+        Assume.assumeTrue(isAllocationMeasured());
+    }
+
+    private boolean isAllocationMeasured() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        return threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+    }
+}
@@ -0,0 +1,99 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.tsmodel.TSInterface;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+import com.blueveery.springrest2ts.tsmodel.generics.TSInterfaceReference;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class TypeVariableResolverTest {
+
+    static class BaseDTO {
+    }
+
+    static class OrderDTO extends BaseDTO {
+    }
+
+    interface BaseCtrl<T extends BaseDTO> {
+        T getObject(int id);
+
+        List<? extends T> findAll();
+
+        void saveAll(Map<String, ? super T> objects);
+
+        List<? extends T>[] findPages();
+    }
+
+    interface GetObjectCtrl<E extends BaseDTO> extends BaseCtrl<E> {
+    }
+
+    static abstract class OrderCtrl implements GetObjectCtrl<OrderDTO> {
+    }
+
+    interface ResolvedOrderCtrl {
+        OrderDTO getObject(int id);
+
+        List<? extends OrderDTO> findAll();
+
+        void saveAll(Map<String, ? super OrderDTO> objects);
+
+        List<? extends OrderDTO>[] findPages();
+    }
+
+    @Test
+    public void inheritedMethodTypesAreEqualToDeclaredOnes() throws NoSuchMethodException {
+        assertResolved(getReturnType(BaseCtrl.class, "getObject", int.class), getReturnType(ResolvedOrderCtrl.class, "getObject", int.class));
+        assertResolved(getReturnType(BaseCtrl.class, "findAll"), getReturnType(ResolvedOrderCtrl.class, "findAll"));
+        assertResolved(getReturnType(BaseCtrl.class, "findPages"), getReturnType(ResolvedOrderCtrl.class, "findPages"));
+        Type parameterType = BaseCtrl.class.getMethod("saveAll", Map.class).getGenericParameterTypes()[0];
+        Type expectedParameterType = ResolvedOrderCtrl.class.getMethod("saveAll", Map.class).getGenericParameterTypes()[0];
+        assertResolved(parameterType, expectedParameterType);
+    }
+
+    @Test
+    public void typesWithoutBoundVariablesAreNotCopied() throws NoSuchMethodException {
+        Type returnType = getReturnType(ResolvedOrderCtrl.class, "findAll");
+        assertSame(returnType, TypeVariableResolver.resolve(OrderCtrl.class, returnType));
+    }
+
+    @Test
+    public void inheritedMethodIsMappedToRegisteredType() throws NoSuchMethodException {
+        TypeRegistry previousTypeRegistry = TypeRegistry.bind(new TypeRegistry());
+        try {
+            TSInterface orderInterface = new TSInterface("OrderDTO", new TSModule("model", Paths.get(""), false));
+            TypeMapper.registerTsType(OrderDTO.class, orderInterface);
+            Type returnType = TypeVariableResolver.resolve(OrderCtrl.class, getReturnType(BaseCtrl.class, "getObject", int.class));
+            TSType tsType = TypeMapper.map(returnType);
+            assertTrue(tsType instanceof TSInterfaceReference);
+            assertSame(orderInterface, ((TSInterfaceReference) tsType).getReferencedType());
+        } finally {
+            TypeRegistry.release(previousTypeRegistry);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void mappingWithoutBoundRegistryFails() {
+        TypeMapper.map(OrderDTO.class);
+    }
+
+    private void assertResolved(Type inheritedType, Type expectedType) {
+        Type resolvedType = TypeVariableResolver.resolve(OrderCtrl.class, inheritedType);
+        assertEquals(expectedType, resolvedType);
+        assertEquals(resolvedType, expectedType);
+        assertEquals(expectedType.hashCode(), resolvedType.hashCode());
+        assertEquals(expectedType.getTypeName(), resolvedType.getTypeName());
+    }
+
+    private Type getReturnType(Class javaClass, String methodName, Class... parameterTypes) throws NoSuchMethodException {
+        Method method = javaClass.getMethod(methodName, parameterTypes);
+        return method.getGenericReturnType();
+    }
+}
@@ -0,0 +1,144 @@
+package com.blueveery.springrest2ts.filters;
+
+import com.blueveery.springrest2ts.scanning.ClassFileHierarchy;
+import com.blueveery.springrest2ts.scanning.ClassFileInfo;
+import com.blueveery.springrest2ts.scanning.IsolatedClassLoader;
+import org.junit.Test;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class PreFilterVerdictTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface InheritedMarker {
+    }
+
+    interface Identified {
+    }
+
+    @InheritedMarker
+    static class BaseDTO implements Identified {
+    }
+
+    @Marker
+    static class OrderDTO extends BaseDTO {
+    }
+
+    static class OrderCtrl {
+    }
+
+    private final ClassFileHierarchy classFileHierarchy = new ClassFileHierarchy(getClass().getClassLoader(), Collections.emptyList());
+    private final List<Class> testedClasses = Arrays.asList(BaseDTO.class, OrderDTO.class, OrderCtrl.class, Identified.class);
+
+    @Test
+    public void extendsFilterFollowsClassFileHierarchy() {
+        ExtendsJavaTypeFilter filter = new ExtendsJavaTypeFilter(Identified.class);
+        assertVerdict(FilterVerdict.ACCEPTED, filter, OrderDTO.class);
+        assertVerdict(FilterVerdict.REJECTED, filter, OrderCtrl.class);
+        ClassFileInfo unresolvedSuperClass = new ClassFileInfo("test.Child", "Child", "test.MissingBase", Collections.emptyList(), Collections.emptyList(), 0);
+        assertEquals(FilterVerdict.UNDECIDED, filter.preFilter(unresolvedSuperClass, classFileHierarchy));
+        assertConsistentWithAccept(filter);
+    }
+
+    @Test
+    public void annotationFilterFollowsInheritedAnnotations() {
+        HasAnnotationJavaTypeFilter markerFilter = new HasAnnotationJavaTypeFilter(Marker.class);
+        assertVerdict(FilterVerdict.ACCEPTED, markerFilter, OrderDTO.class);
+        assertVerdict(FilterVerdict.REJECTED, markerFilter, BaseDTO.class);
+        HasAnnotationJavaTypeFilter inheritedMarkerFilter = new HasAnnotationJavaTypeFilter(InheritedMarker.class);
+        assertVerdict(FilterVerdict.ACCEPTED, inheritedMarkerFilter, OrderDTO.class);
+        assertVerdict(FilterVerdict.REJECTED, inheritedMarkerFilter, OrderCtrl.class);
+        assertEquals(FilterVerdict.UNDECIDED, markerFilter.preFilter(new ClassFileInfo(OrderDTO.class.getName()), classFileHierarchy));
+        assertConsistentWithAccept(markerFilter);
+        assertConsistentWithAccept(inheritedMarkerFilter);
+    }
+
+    @Test
+    public void nameFiltersUseSimpleName() {
+        ContainsSubStringJavaTypeFilter substringFilter = new ContainsSubStringJavaTypeFilter("DTO");
+        assertVerdict(FilterVerdict.ACCEPTED, substringFilter, OrderDTO.class);
+        assertVerdict(FilterVerdict.REJECTED, substringFilter, OrderCtrl.class);
+        assertEquals(FilterVerdict.UNDECIDED, substringFilter.filterByName(OrderDTO.class.getName()));
+        assertEquals(FilterVerdict.ACCEPTED, substringFilter.filterByName("test.OrderDTO"));
+
+        RegexpJavaTypeFilter regexpFilter = new RegexpJavaTypeFilter(".*Ctrl");
+        assertVerdict(FilterVerdict.ACCEPTED, regexpFilter, OrderCtrl.class);
+        assertVerdict(FilterVerdict.REJECTED, regexpFilter, OrderDTO.class);
+        assertConsistentWithAccept(substringFilter);
+        assertConsistentWithAccept(regexpFilter);
+    }
+
+    @Test
+    public void setPackageAndRejectFiltersDecideByName() {
+        JavaTypeSetFilter setFilter = new JavaTypeSetFilter(Collections.singleton(OrderDTO.class));
+        assertEquals(FilterVerdict.UNDECIDED, setFilter.filterByName(OrderDTO.class.getName()));
+        assertEquals(FilterVerdict.REJECTED, setFilter.filterByName(OrderCtrl.class.getName()));
+
+        JavaTypePackageFilter packageFilter = new JavaTypePackageFilter(getClass().getPackage());
+        assertVerdict(FilterVerdict.ACCEPTED, packageFilter, OrderDTO.class);
+        assertEquals(FilterVerdict.REJECTED, packageFilter.filterByName("other.OrderDTO"));
+
+        assertVerdict(FilterVerdict.REJECTED, new RejectJavaTypeFilter(), OrderDTO.class);
+        assertConsistentWithAccept(setFilter);
+        assertConsistentWithAccept(packageFilter);
+    }
+
+    @Test
+    public void packageFilterAcceptsClassesOfOtherClassLoaders() throws Exception {
+        URL testClassesUrl = getClass().getProtectionDomain().getCodeSource().getLocation();
+        JavaTypePackageFilter packageFilter = new JavaTypePackageFilter(getClass().getPackage());
+        try (IsolatedClassLoader isolatedClassLoader = new IsolatedClassLoader(Collections.singletonList(Paths.get(testClassesUrl.toURI())), null)) {
+            Class isolatedClass = isolatedClassLoader.loadClass(OrderDTO.class.getName());
+            assertNotSame(OrderDTO.class, isolatedClass);
+            assertTrue(packageFilter.accept(isolatedClass));
+            assertFalse(new NotJavaTypeFilter(packageFilter).accept(isolatedClass));
+        }
+    }
+
+    @Test
+    public void operatorsCombineVerdicts() {
+        JavaTypeFilter dtoFilter = new ContainsSubStringJavaTypeFilter("DTO");
+        JavaTypeFilter markerFilter = new HasAnnotationJavaTypeFilter(Marker.class);
+        JavaTypeFilter undecidedFilter = new JavaTypeSetFilter(new HashSet<>(testedClasses));
+
+        assertVerdict(FilterVerdict.ACCEPTED, new AndFilterOperator(Arrays.asList(dtoFilter, markerFilter)), OrderDTO.class);
+        assertVerdict(FilterVerdict.REJECTED, new AndFilterOperator(Arrays.asList(dtoFilter, markerFilter)), BaseDTO.class);
+        assertVerdict(FilterVerdict.UNDECIDED, new AndFilterOperator(Arrays.asList(dtoFilter, undecidedFilter)), OrderDTO.class);
+        assertVerdict(FilterVerdict.ACCEPTED, new OrFilterOperator(Arrays.asList(markerFilter, undecidedFilter)), OrderDTO.class);
+        assertVerdict(FilterVerdict.UNDECIDED, new OrFilterOperator(Arrays.asList(markerFilter, undecidedFilter)), BaseDTO.class);
+        assertVerdict(FilterVerdict.REJECTED, new OrFilterOperator(Arrays.asList(dtoFilter, markerFilter)), OrderCtrl.class);
+
+        assertVerdict(FilterVerdict.REJECTED, new NotJavaTypeFilter(dtoFilter), OrderDTO.class);
+        assertVerdict(FilterVerdict.ACCEPTED, new NotJavaTypeFilter(dtoFilter), OrderCtrl.class);
+        assertVerdict(FilterVerdict.UNDECIDED, new NotJavaTypeFilter(undecidedFilter), OrderDTO.class);
+        assertConsistentWithAccept(new NotJavaTypeFilter(new OrFilterOperator(Arrays.asList(dtoFilter, markerFilter))));
+    }
+
+    private void assertVerdict(FilterVerdict expectedVerdict, JavaTypeFilter filter, Class javaClass) {
+        assertEquals(javaClass.getSimpleName(), expectedVerdict, filter.preFilter(classFileHierarchy.find(javaClass.getName()), classFileHierarchy));
+    }
+
+    /**
+     * Decided verdicts must be exact, otherwise classes would be dropped before loading or by negation
+     */
+    private void assertConsistentWithAccept(JavaTypeFilter filter) {
+        for (Class javaClass : testedClasses) {
+            FilterVerdict verdict = filter.preFilter(classFileHierarchy.find(javaClass.getName()), classFileHierarchy);
+            if (verdict != FilterVerdict.UNDECIDED) {
+                assertEquals(javaClass.getSimpleName(), FilterVerdict.of(filter.accept(javaClass)), verdict);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.blueveery.springrest2ts.scanning;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class ClassFileParserTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface VisibleMarker {
+        String value() default "";
+
+        Class[] types() default {};
+
+        RetentionPolicy policy() default RetentionPolicy.RUNTIME;
+
+        Retention nested() default @Retention(RetentionPolicy.CLASS);
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface InvisibleMarker {
+    }
+
+    static class Base {
+    }
+
+    @VisibleMarker(value = "dto", types = {String.class, Integer.class}, policy = RetentionPolicy.SOURCE)
+    @InvisibleMarker
+    static class Constants extends Base implements Serializable, Comparable<Constants> {
+        static final long LONG_CONSTANT = 1234567890123L;
+        static final double DOUBLE_CONSTANT = 3.14;
+        static final String STRING_CONSTANT = "constant";
+        private final float floatField = 1.5f;
+
+        @Override
+        public int compareTo(Constants other) {
+            return Long.compare(LONG_CONSTANT, other.floatField > DOUBLE_CONSTANT ? 1 : 0);
+        }
+    }
+
+    enum Color {
+        RED, GREEN
+    }
+
+    interface Named {
+        String getName();
+    }
+
+    private final ClassFileParser classFileParser = new ClassFileParser();
+
+    @Test
+    public void parsesClassHeaderAndRuntimeVisibleAnnotations() throws IOException {
+        ClassFileInfo classFileInfo = parse(Constants.class);
+
+        assertTrue(classFileInfo.isParsed());
+        assertEquals(Constants.class.getName(), classFileInfo.getClassName());
+        assertEquals("Constants", classFileInfo.getSimpleName());
+        assertEquals(getClass().getPackage().getName(), classFileInfo.getPackageName());
+        assertEquals(Base.class.getName(), classFileInfo.getSuperClassName());
+        assertEquals(Arrays.asList(Serializable.class.getName(), Comparable.class.getName()), classFileInfo.getInterfaceNames());
+        assertEquals(Collections.singletonList(VisibleMarker.class.getName()), classFileInfo.getAnnotationNames());
+        assertFalse(classFileInfo.isInterface());
+        assertFalse(classFileInfo.isEnum());
+    }
+
+    @Test
+    public void readsKindOfType() throws IOException {
+        assertTrue(parse(Color.class).isEnum());
+        assertEquals(Enum.class.getName(), parse(Color.class).getSuperClassName());
+        assertTrue(parse(Named.class).isInterface());
+        assertTrue(parse(VisibleMarker.class).isAnnotation());
+        assertNull(parse(Object.class).getSuperClassName());
+    }
+
+    @Test
+    public void readsSimpleNameOfNestedAndAnonymousClasses() throws IOException {
+        Object anonymous = new Named() {
+            @Override
+            public String getName() {
+                return "anonymous";
+            }
+        };
+        assertEquals("Named", parse(Named.class).getSimpleName());
+        assertEquals("", parse(anonymous.getClass()).getSimpleName());
+        assertEquals("ClassFileParserTest", parse(ClassFileParserTest.class).getSimpleName());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsBytesWhichAreNotClassFile() throws IOException {
+        classFileParser.parse(new byte[]{0, 1, 2, 3, 4, 5, 6, 7});
+    }
+
+    private ClassFileInfo parse(Class javaClass) throws IOException {
+        try (InputStream inputStream = ClassLoader.getSystemResourceAsStream(javaClass.getName().replace('.', '/') + ".class")) {
+            return classFileParser.parse(ClassFileHierarchy.readAllBytes(inputStream));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.blueveery.springrest2ts.scanning;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ClassPathScannerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void unchangedClassPathDoesNotRewriteScanIndex() throws IOException {
+        ClassPathScanner classPathScanner = new ClassPathScanner(getClass().getClassLoader());
+        Path scanIndexDirectory = temporaryFolder.getRoot().toPath();
+        classPathScanner.setScanIndexDirectory(scanIndexDirectory);
+        String packageName = getClass().getPackage().getName();
+
+        List<ClassFileInfo> scannedClasses = classPathScanner.scan(Collections.singleton(packageName));
+        Path scanIndexFile = scanIndexDirectory.resolve("scan-index.bin");
+        assertTrue(Files.exists(scanIndexFile));
+        FileTime writtenTime = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+        Files.setLastModifiedTime(scanIndexFile, writtenTime);
+
+        List<ClassFileInfo> indexedClasses = classPathScanner.scan(Collections.singleton(packageName));
+        assertEquals(scannedClasses.size(), indexedClasses.size());
+        assertEquals(writtenTime, Files.getLastModifiedTime(scanIndexFile));
+
+        classPathScanner.scan(Collections.singleton(ClassFileParser.class.getPackage().getName() + ".missing"));
+        assertNotEquals(writtenTime, Files.getLastModifiedTime(scanIndexFile));
+    }
+}
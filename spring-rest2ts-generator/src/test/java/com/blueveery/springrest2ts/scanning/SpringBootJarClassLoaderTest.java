@@ -0,0 +1,152 @@
+package com.blueveery.springrest2ts.scanning;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.junit.Assert.*;
+
+public class SpringBootJarClassLoaderTest {
+
+    public static class ApplicationClass {
+        @Override
+        public String toString() {
+            return "application";
+        }
+    }
+
+    public static class StoredLibraryClass {
+        @Override
+        public String toString() {
+            return "stored library";
+        }
+    }
+
+    public static class DeflatedLibraryClass {
+        @Override
+        public String toString() {
+            return "deflated library";
+        }
+    }
+
+    public static class NotLoadedClass {
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void loadsClassesFromBootInfClassesAndNestedJars() throws Exception {
+        try (SpringBootJarClassLoader classLoader = new SpringBootJarClassLoader(createBootJar(), null)) {
+            assertEquals("application", newInstance(classLoader, ApplicationClass.class));
+            assertEquals("stored library", newInstance(classLoader, StoredLibraryClass.class));
+            assertEquals("deflated library", newInstance(classLoader, DeflatedLibraryClass.class));
+
+            try (InputStream resourceStream = classLoader.getResourceAsStream(resourceName(DeflatedLibraryClass.class))) {
+                assertArrayEquals(readClassFile(DeflatedLibraryClass.class), ClassFileHierarchy.readAllBytes(resourceStream));
+            }
+            assertNull(classLoader.getResource("com/missing/Missing.class"));
+        }
+    }
+
+    @Test
+    public void scansPackageInAllArchiveRoots() throws Exception {
+        try (SpringBootJarClassLoader classLoader = new SpringBootJarClassLoader(createBootJar(), null)) {
+            List<ClassFileInfo> scannedClasses = new ClassPathScanner(classLoader).scan(Collections.singleton(getClass().getPackage().getName()));
+
+            Set<String> scannedClassNames = new TreeSet<>();
+            for (ClassFileInfo classFileInfo : scannedClasses) {
+                scannedClassNames.add(classFileInfo.getClassName());
+            }
+            Set<String> expectedClassNames = new TreeSet<>();
+            for (Class javaClass : new Class[]{ApplicationClass.class, StoredLibraryClass.class, DeflatedLibraryClass.class, NotLoadedClass.class}) {
+                expectedClassNames.add(javaClass.getName());
+            }
+            assertEquals(expectedClassNames, scannedClassNames);
+        }
+    }
+
+    @Test
+    public void closedClassLoaderDoesNotFindNewClasses() throws Exception {
+        SpringBootJarClassLoader classLoader = new SpringBootJarClassLoader(createBootJar(), null);
+        Class applicationClass = classLoader.loadClass(ApplicationClass.class.getName());
+        classLoader.close();
+
+        assertEquals("application", applicationClass.newInstance().toString());
+        assertNull(classLoader.getResource(resourceName(NotLoadedClass.class)));
+        try {
+            classLoader.loadClass(NotLoadedClass.class.getName());
+            fail("Class loaded after close");
+        } catch (ClassNotFoundException expected) {
+        }
+        classLoader.close();
+    }
+
+    private String newInstance(ClassLoader classLoader, Class javaClass) throws ReflectiveOperationException {
+        Class loadedClass = classLoader.loadClass(javaClass.getName());
+        assertSame(classLoader, loadedClass.getClassLoader());
+        return loadedClass.newInstance().toString();
+    }
+
+    private Path createBootJar() throws IOException {
+        Path bootJar = temporaryFolder.newFile("app.jar").toPath();
+        try (JarOutputStream bootJarOutput = new JarOutputStream(Files.newOutputStream(bootJar))) {
+            bootJarOutput.putNextEntry(new JarEntry("BOOT-INF/classes/" + resourceName(ApplicationClass.class)));
+            bootJarOutput.write(readClassFile(ApplicationClass.class));
+            bootJarOutput.closeEntry();
+
+            byte[] storedJar = createJar(StoredLibraryClass.class);
+            JarEntry storedJarEntry = new JarEntry("BOOT-INF/lib/stored.jar");
+            storedJarEntry.setMethod(ZipEntry.STORED);
+            storedJarEntry.setSize(storedJar.length);
+            storedJarEntry.setCompressedSize(storedJar.length);
+            CRC32 crc = new CRC32();
+            crc.update(storedJar);
+            storedJarEntry.setCrc(crc.getValue());
+            bootJarOutput.putNextEntry(storedJarEntry);
+            bootJarOutput.write(storedJar);
+            bootJarOutput.closeEntry();
+
+            bootJarOutput.putNextEntry(new JarEntry("BOOT-INF/lib/deflated.jar"));
+            bootJarOutput.write(createJar(DeflatedLibraryClass.class, NotLoadedClass.class));
+            bootJarOutput.closeEntry();
+        }
+        return bootJar;
+    }
+
+    private byte[] createJar(Class... javaClasses) throws IOException {
+        ByteArrayOutputStream jarBytes = new ByteArrayOutputStream();
+        try (JarOutputStream jarOutput = new JarOutputStream(jarBytes)) {
+            for (Class javaClass : javaClasses) {
+                jarOutput.putNextEntry(new JarEntry(resourceName(javaClass)));
+                jarOutput.write(readClassFile(javaClass));
+                jarOutput.closeEntry();
+            }
+        }
+        return jarBytes.toByteArray();
+    }
+
+    private byte[] readClassFile(Class javaClass) throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resourceName(javaClass))) {
+            return ClassFileHierarchy.readAllBytes(inputStream);
+        }
+    }
+
+    private static String resourceName(Class javaClass) {
+        return javaClass.getName().replace('.', '/') + ".class";
+    }
+}
@@ -0,0 +1,125 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.*;
+
+/**
+ * Jackson class level configuration resolved once per class. Class annotations are inherited from super class and
+ * interfaces unless class declares its own, the nearest declaration wins. Each part is resolved lazily on first use,
+ * class members are read only when ignored properties are looked up
+ */
+class JacksonClassConfig {
+    private static final ClassValue<JacksonClassConfig> classConfigs = new ClassValue<JacksonClassConfig>() {
+        @Override
+        protected JacksonClassConfig computeValue(Class<?> javaClass) {
+            return new JacksonClassConfig(javaClass);
+        }
+    };
+
+    private final Class<?> javaClass;
+    private volatile Optional<JsonAutoDetect> jsonAutoDetect;
+    private volatile Boolean ignoredType;
+    private volatile List<JsonIgnoreProperties> classJsonIgnoreProperties;
+    private volatile Map<String, JsonIgnoreProperties> ignoredPropertyMap;
+
+    static JacksonClassConfig of(Class<?> javaClass) {
+        return classConfigs.get(javaClass);
+    }
+
+    private JacksonClassConfig(Class<?> javaClass) {
+        this.javaClass = javaClass;
+    }
+
+    private List<JacksonClassConfig> getSuperConfigs() {
+        List<JacksonClassConfig> superConfigs = new ArrayList<>();
+        if (javaClass.getSuperclass() != null) {
+            superConfigs.add(of(javaClass.getSuperclass()));
+        }
+        for (Class<?> interfaceClass : javaClass.getInterfaces()) {
+            superConfigs.add(of(interfaceClass));
+        }
+        return superConfigs;
+    }
+
+    /**
+     * @return the nearest JsonAutoDetect annotation or null if class hierarchy doesn't declare it
+     */
+    JsonAutoDetect getJsonAutoDetect() {
+        Optional<JsonAutoDetect> currentJsonAutoDetect = jsonAutoDetect;
+        if (currentJsonAutoDetect == null) {
+            currentJsonAutoDetect = Optional.ofNullable(javaClass.getDeclaredAnnotation(JsonAutoDetect.class));
+            if (!currentJsonAutoDetect.isPresent()) {
+                currentJsonAutoDetect = getSuperConfigs().stream().map(JacksonClassConfig::getJsonAutoDetect).filter(Objects::nonNull).findFirst();
+            }
+            jsonAutoDetect = currentJsonAutoDetect;
+        }
+        return currentJsonAutoDetect.orElse(null);
+    }
+
+    boolean isIgnoredType() {
+        Boolean currentIgnoredType = ignoredType;
+        if (currentIgnoredType == null) {
+            JsonIgnoreType jsonIgnoreType = javaClass.getDeclaredAnnotation(JsonIgnoreType.class);
+            if (jsonIgnoreType != null) {
+                currentIgnoredType = jsonIgnoreType.value();
+            } else {
+                currentIgnoredType = getSuperConfigs().stream().anyMatch(JacksonClassConfig::isIgnoredType);
+            }
+            ignoredType = currentIgnoredType;
+        }
+        return currentIgnoredType;
+    }
+
+    private List<JsonIgnoreProperties> getClassJsonIgnoreProperties() {
+        List<JsonIgnoreProperties> currentClassJsonIgnoreProperties = classJsonIgnoreProperties;
+        if (currentClassJsonIgnoreProperties == null) {
+            JsonIgnoreProperties declaredJsonIgnoreProperties = javaClass.getDeclaredAnnotation(JsonIgnoreProperties.class);
+            if (declaredJsonIgnoreProperties != null) {
+                currentClassJsonIgnoreProperties = Collections.singletonList(declaredJsonIgnoreProperties);
+            } else {
+                currentClassJsonIgnoreProperties = getSuperConfigs().stream().map(JacksonClassConfig::getClassJsonIgnoreProperties).filter(l -> !l.isEmpty()).findFirst().orElse(Collections.emptyList());
+            }
+            classJsonIgnoreProperties = currentClassJsonIgnoreProperties;
+        }
+        return currentClassJsonIgnoreProperties;
+    }
+
+    /**
+     * @return JsonIgnoreProperties annotation which lists given property or null
+     */
+    JsonIgnoreProperties getJsonIgnoreProperties(String propertyName) {
+        Map<String, JsonIgnoreProperties> currentIgnoredPropertyMap = ignoredPropertyMap;
+        if (currentIgnoredPropertyMap == null) {
+            currentIgnoredPropertyMap = readIgnoredPropertyMap();
+            ignoredPropertyMap = currentIgnoredPropertyMap;
+        }
+        return currentIgnoredPropertyMap.get(propertyName);
+    }
+
+    private Map<String, JsonIgnoreProperties> readIgnoredPropertyMap() {
+        List<JsonIgnoreProperties> jsonIgnorePropertiesList = new ArrayList<>(getClassJsonIgnoreProperties());
+        addJsonIgnoreProperties(javaClass.getDeclaredFields(), jsonIgnorePropertiesList);
+        addJsonIgnoreProperties(javaClass.getDeclaredConstructors(), jsonIgnorePropertiesList);
+        addJsonIgnoreProperties(javaClass.getDeclaredMethods(), jsonIgnorePropertiesList);
+        Map<String, JsonIgnoreProperties> propertyMap = new HashMap<>();
+        for (JsonIgnoreProperties jsonIgnoreProperties : jsonIgnorePropertiesList) {
+            for (String propertyName : jsonIgnoreProperties.value()) {
+                propertyMap.putIfAbsent(propertyName.trim(), jsonIgnoreProperties);
+            }
+        }
+        return propertyMap.isEmpty() ? Collections.emptyMap() : propertyMap;
+    }
+
+    private static void addJsonIgnoreProperties(AnnotatedElement[] annotatedElements, List<JsonIgnoreProperties> jsonIgnorePropertiesList) {
+        for (AnnotatedElement annotatedElement : annotatedElements) {
+            JsonIgnoreProperties jsonIgnoreProperties = annotatedElement.getAnnotation(JsonIgnoreProperties.class);
+            if (jsonIgnoreProperties != null) {
+                jsonIgnorePropertiesList.add(jsonIgnoreProperties);
+            }
+        }
+    }
+}
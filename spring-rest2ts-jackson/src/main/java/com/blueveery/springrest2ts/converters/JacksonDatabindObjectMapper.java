@@ -0,0 +1,186 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSField;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Object mapper which discovers and names properties using bean introspection of configured Jackson databind
+ * ObjectMapper, so mixins, naming strategies, visibility and modules registered in it are respected. Properties are
+ * introspected once per class, property types and field level annotations are mapped like in {@link JacksonObjectMapper}.
+ * Field is read only if Jackson doesn't deserialize the property and optional if Jackson doesn't serialize it, raw
+ * values are taken from annotations of property accessors including mixins
+ */
+public class JacksonDatabindObjectMapper implements ObjectMapper {
+    private final com.fasterxml.jackson.databind.ObjectMapper objectMapper;
+    private final JacksonObjectMapper fieldMapper = new JacksonObjectMapper();
+    private final Map<Class, BeanProperties> beanPropertiesMap = new ConcurrentHashMap<>();
+
+    public JacksonDatabindObjectMapper(com.fasterxml.jackson.databind.ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public com.fasterxml.jackson.databind.ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @Override
+    public List<TSField> addTypeLevelSpecificFields(Class javaType, TSComplexElement tsComplexType) {
+        List<TSField> tsFieldList = new ArrayList<>();
+        JsonTypeInfo jsonTypeInfo = getBeanProperties(javaType).serializationDescription.getClassAnnotations().get(JsonTypeInfo.class);
+        if (jsonTypeInfo != null && jsonTypeInfo.include() == JsonTypeInfo.As.PROPERTY && jsonTypeInfo.use() != JsonTypeInfo.Id.NONE) {
+            String propertyName = jsonTypeInfo.property();
+            if ("".equals(propertyName)) {
+                propertyName = jsonTypeInfo.use().getDefaultPropertyName();
+            }
+            for (TSField tsField : tsComplexType.getTsFields()) {
+                if (propertyName.equals(tsField.getName())) {
+                    return tsFieldList;
+                }
+            }
+            TSField tsField = new TSField("\"" + propertyName + "\"", tsComplexType, TypeMapper.tsString);
+            tsComplexType.addTsField(tsField);
+            tsFieldList.add(tsField);
+        }
+        return tsFieldList;
+    }
+
+    @Override
+    public boolean filterClass(Class clazz) {
+        BeanDescription beanDescription = getBeanProperties(clazz).serializationDescription;
+        Boolean ignorableType = objectMapper.getSerializationConfig().getAnnotationIntrospector().isIgnorableType(beanDescription.getClassInfo());
+        return !Boolean.TRUE.equals(ignorableType);
+    }
+
+    @Override
+    public boolean filter(Field field) {
+        return getBeanProperties(field.getDeclaringClass()).fieldNames.containsKey(field);
+    }
+
+    @Override
+    public boolean filter(Method method, boolean isGetter) {
+        BeanProperties beanProperties = getBeanProperties(method.getDeclaringClass());
+        return (isGetter ? beanProperties.getterNames : beanProperties.setterNames).containsKey(method);
+    }
+
+    @Override
+    public List<TSField> mapJavaPropertyToField(Property property, TSComplexElement tsComplexType, ComplexTypeConverter complexTypeConverter,
+                                                ImplementationGenerator implementationGenerator, NullableTypesStrategy nullableTypesStrategy) {
+        List<TSField> tsFieldList = fieldMapper.mapJavaPropertyToField(property, tsComplexType, complexTypeConverter, implementationGenerator, nullableTypesStrategy);
+        BeanProperties beanProperties = getBeanProperties(property.getDeclaringClass());
+        BeanPropertyDefinition serializedProperty = beanProperties.serializedProperties.get(property.getName());
+        BeanPropertyDefinition deserializedProperty = beanProperties.deserializedProperties.get(property.getName());
+        for (TSField tsField : tsFieldList) {
+            if (!property.getName().equals(tsField.getName())) {
+                continue;
+            }
+            if (serializedProperty != null && deserializedProperty == null) {
+                tsField.setReadOnly(true);
+            }
+            if (serializedProperty == null && deserializedProperty != null) {
+                tsField.setReadOnly(false);
+                tsField.setOptional(true);
+            }
+            if (serializedProperty != null && isRawValue(serializedProperty)) {
+                tsField.setType(TypeMapper.tsAny);
+            }
+        }
+        return tsFieldList;
+    }
+
+    @Override
+    public Set<Class> getConversionDependencies(Property property) {
+        return fieldMapper.getConversionDependencies(property);
+    }
+
+    private boolean isRawValue(BeanPropertyDefinition propertyDefinition) {
+        AnnotatedMember accessor = propertyDefinition.getAccessor();
+        if (accessor == null) {
+            return false;
+        }
+        JsonRawValue jsonRawValue = accessor.getAnnotation(JsonRawValue.class);
+        return jsonRawValue != null && jsonRawValue.value();
+    }
+
+    @Override
+    public String getPropertyName(Field field) {
+        return getBeanProperties(field.getDeclaringClass()).fieldNames.get(field);
+    }
+
+    @Override
+    public String getPropertyName(Method method, boolean isGetter) {
+        BeanProperties beanProperties = getBeanProperties(method.getDeclaringClass());
+        return (isGetter ? beanProperties.getterNames : beanProperties.setterNames).get(method);
+    }
+
+    @Override
+    public void setIfIsIgnored(Property property, AnnotatedElement annotatedElement) {
+        if (getBeanProperties(property.getDeclaringClass()).ignoredPropertyNames.contains(property.getName())) {
+            property.setIgnored(true);
+        }
+    }
+
+    private BeanProperties getBeanProperties(Class javaClass) {
+        return beanPropertiesMap.computeIfAbsent(javaClass, this::introspect);
+    }
+
+    private BeanProperties introspect(Class javaClass) {
+        JavaType javaType = objectMapper.constructType(javaClass);
+        BeanDescription serializationDescription = objectMapper.getSerializationConfig().introspect(javaType);
+        BeanDescription deserializationDescription = objectMapper.getDeserializationConfig().introspect(javaType);
+        BeanProperties beanProperties = new BeanProperties(serializationDescription);
+        try {
+            for (BeanPropertyDefinition propertyDefinition : serializationDescription.findProperties()) {
+                addMember(beanProperties.fieldNames, propertyDefinition.getField(), propertyDefinition);
+                addMember(beanProperties.getterNames, propertyDefinition.getGetter(), propertyDefinition);
+                if (propertyDefinition.couldSerialize()) {
+                    beanProperties.serializedProperties.put(propertyDefinition.getName(), propertyDefinition);
+                }
+            }
+            for (BeanPropertyDefinition propertyDefinition : deserializationDescription.findProperties()) {
+                addMember(beanProperties.fieldNames, propertyDefinition.getField(), propertyDefinition);
+                addMember(beanProperties.setterNames, propertyDefinition.getSetter(), propertyDefinition);
+                if (propertyDefinition.couldDeserialize()) {
+                    beanProperties.deserializedProperties.put(propertyDefinition.getName(), propertyDefinition);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(String.format("Jackson could not introspect properties of class %s : %s", javaClass.getName(), e.getMessage()), e);
+        }
+        beanProperties.ignoredPropertyNames.addAll(serializationDescription.getIgnoredPropertyNames());
+        return beanProperties;
+    }
+
+    private void addMember(Map<Member, String> memberNames, AnnotatedMember annotatedMember, BeanPropertyDefinition propertyDefinition) {
+        if (annotatedMember != null && annotatedMember.getMember() != null) {
+            memberNames.putIfAbsent(annotatedMember.getMember(), propertyDefinition.getName());
+        }
+    }
+
+    private static class BeanProperties {
+        private final BeanDescription serializationDescription;
+        private final Map<Member, String> fieldNames = new HashMap<>();
+        private final Map<Member, String> getterNames = new HashMap<>();
+        private final Map<Member, String> setterNames = new HashMap<>();
+        private final Set<String> ignoredPropertyNames = new HashSet<>();
+        private final Map<String, BeanPropertyDefinition> serializedProperties = new HashMap<>();
+        private final Map<String, BeanPropertyDefinition> deserializedProperties = new HashMap<>();
+
+        BeanProperties(BeanDescription serializationDescription) {
+            this.serializationDescription = serializationDescription;
+        }
+    }
+}
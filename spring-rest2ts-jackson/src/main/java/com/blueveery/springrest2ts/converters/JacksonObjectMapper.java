@@ -1,19 +1,22 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
 import com.blueveery.springrest2ts.tsmodel.*;
+import com.blueveery.springrest2ts.tsmodel.generics.TSParameterizedTypeReference;
 import com.fasterxml.jackson.annotation.*;
 
 import java.beans.Introspector;
 import java.lang.reflect.*;
 import java.util.*;
 
-public class JacksonObjectMapper implements ObjectMapper {
-    private final Map<Class, List<JsonIgnoreProperties>> jsonIgnorePropertiesPerClass = new HashMap<>();
+public class JacksonObjectMapper implements ObjectMapper, DescribedConfiguration {
     JsonAutoDetect.Visibility fieldsVisibility = JsonAutoDetect.Visibility.NONE;
     JsonAutoDetect.Visibility gettersVisibility = JsonAutoDetect.Visibility.PUBLIC_ONLY;
     JsonAutoDetect.Visibility isGetterVisibility = JsonAutoDetect.Visibility.PUBLIC_ONLY;
     JsonAutoDetect.Visibility settersVisibility = JsonAutoDetect.Visibility.PUBLIC_ONLY;
+    private volatile List<Object> configurationToken = createConfigurationToken();
 
     public JacksonObjectMapper() {
     }
@@ -24,6 +27,7 @@ public class JacksonObjectMapper implements ObjectMapper {
 
     public void setFieldsVisibility(JsonAutoDetect.Visibility fieldsVisibility) {
         this.fieldsVisibility = fieldsVisibility;
+        configurationToken = createConfigurationToken();
     }
 
     public JsonAutoDetect.Visibility getGettersVisibility() {
@@ -32,6 +36,7 @@ public class JacksonObjectMapper implements ObjectMapper {
 
     public void setGettersVisibility(JsonAutoDetect.Visibility gettersVisibility) {
         this.gettersVisibility = gettersVisibility;
+        configurationToken = createConfigurationToken();
     }
 
     public JsonAutoDetect.Visibility getIsGetterVisibility() {
@@ -40,6 +45,7 @@ public class JacksonObjectMapper implements ObjectMapper {
 
     public void setIsGetterVisibility(JsonAutoDetect.Visibility isGetterVisibility) {
         this.isGetterVisibility = isGetterVisibility;
+        configurationToken = createConfigurationToken();
     }
 
     public JsonAutoDetect.Visibility getSettersVisibility() {
@@ -48,6 +54,19 @@ public class JacksonObjectMapper implements ObjectMapper {
 
     public void setSettersVisibility(JsonAutoDetect.Visibility settersVisibility) {
         this.settersVisibility = settersVisibility;
+        configurationToken = createConfigurationToken();
+    }
+
+    /**
+     * Mappers of the same class with the same visibility settings share read properties
+     */
+    @Override
+    public Object getConfigurationToken() {
+        return configurationToken;
+    }
+
+    private List<Object> createConfigurationToken() {
+        return Arrays.asList(getClass(), fieldsVisibility, gettersVisibility, isGetterVisibility, settersVisibility);
     }
 
     @Override
@@ -91,7 +110,7 @@ public class JacksonObjectMapper implements ObjectMapper {
             return false;
         }
         JsonAutoDetect.Visibility currentFieldsVisibility = fieldsVisibility;
-        JsonAutoDetect jsonAutoDetect = field.getDeclaringClass().getDeclaredAnnotation(JsonAutoDetect.class);
+        JsonAutoDetect jsonAutoDetect = JacksonClassConfig.of(field.getDeclaringClass()).getJsonAutoDetect();
         if (jsonAutoDetect != null) {
             currentFieldsVisibility = setUpVisibility(jsonAutoDetect.fieldVisibility());
         }
@@ -114,7 +133,7 @@ public class JacksonObjectMapper implements ObjectMapper {
         JsonAutoDetect.Visibility currentGettersVisibility = gettersVisibility;
         JsonAutoDetect.Visibility currentSettersVisibility = settersVisibility;
         JsonAutoDetect.Visibility currentIsGetterVisibility = isGetterVisibility;
-        JsonAutoDetect jsonAutoDetect = method.getDeclaringClass().getDeclaredAnnotation(JsonAutoDetect.class);
+        JsonAutoDetect jsonAutoDetect = JacksonClassConfig.of(method.getDeclaringClass()).getJsonAutoDetect();
         if (jsonAutoDetect != null) {
             currentGettersVisibility = setUpVisibility(jsonAutoDetect.getterVisibility());
             currentIsGetterVisibility = setUpVisibility(jsonAutoDetect.isGetterVisibility());
@@ -275,6 +294,15 @@ public class JacksonObjectMapper implements ObjectMapper {
         }
     }
 
+    @Override
+    public Set<Class> getConversionDependencies(Property property) {
+        if (property.isIgnored() || property.getGetterType() == null || property.getDeclaredAnnotation(JsonUnwrapped.class) == null) {
+            return Collections.emptySet();
+        }
+        Type unwrappedType = applyJsonValue(property.getGetterType());
+        return unwrappedType instanceof Class ? Collections.singleton((Class) unwrappedType) : Collections.emptySet();
+    }
+
     private String cutPrefix(String methodName, String prefix) {
         if (methodName.startsWith(prefix)) {
             return Introspector.decapitalize(methodName.replaceFirst(prefix, ""));
@@ -297,8 +325,11 @@ public class JacksonObjectMapper implements ObjectMapper {
 
     private boolean applyJsonUnwrapped(Type fieldJavaType, JsonUnwrapped declaredAnnotation, TSComplexElement tsComplexType,
                                        List<TSField> tsFieldList, ComplexTypeConverter complexTypeConverter, NullableTypesStrategy nullableTypesStrategy) {
-        if (declaredAnnotation != null) {
+        if (declaredAnnotation != null && fieldJavaType instanceof Class) {
             TSType tsType = TypeMapper.map(fieldJavaType);
+            if (tsType instanceof TSParameterizedTypeReference) {
+                tsType = (TSType) ((TSParameterizedTypeReference) tsType).getReferencedType();
+            }
             if (!(tsType instanceof TSComplexElement)) {
                 return false;
             }
@@ -315,24 +346,20 @@ public class JacksonObjectMapper implements ObjectMapper {
     }
 
     private boolean applyJsonIgnoreProperties(Property property, TSField tsField) {
-        List<JsonIgnoreProperties> jsonIgnorePropertiesList = discoverJsonIgnoreProperties(property.getDeclaringClass());
-        for (JsonIgnoreProperties jsonIgnoreProperties : jsonIgnorePropertiesList) {
-            for (String propertyName : jsonIgnoreProperties.value()) {
-                if (propertyName.trim().equals(property.getName())) {
-                    if (jsonIgnoreProperties.allowGetters() && property.getGetter() != null) {
-                        if (!jsonIgnoreProperties.allowSetters() || property.getSetter() == null) {
-                            tsField.setReadOnly(true);
-                        }
-                        return false;
-                    }
-                    if (jsonIgnoreProperties.allowSetters() && property.getSetter() != null) {
-                        return false;
-                    }
-                    return true;
-                }
+        JsonIgnoreProperties jsonIgnoreProperties = JacksonClassConfig.of(property.getDeclaringClass()).getJsonIgnoreProperties(property.getName());
+        if (jsonIgnoreProperties == null) {
+            return false;
+        }
+        if (jsonIgnoreProperties.allowGetters() && property.getGetter() != null) {
+            if (!jsonIgnoreProperties.allowSetters() || property.getSetter() == null) {
+                tsField.setReadOnly(true);
             }
+            return false;
         }
-        return false;
+        if (jsonIgnoreProperties.allowSetters() && property.getSetter() != null) {
+            return false;
+        }
+        return true;
     }
 
     private void applyReadOnly(TSField tsField, Property property) {
@@ -399,37 +426,6 @@ public class JacksonObjectMapper implements ObjectMapper {
         }
     }
 
-    private List<JsonIgnoreProperties> discoverJsonIgnoreProperties(Class<?> declaringClass) {
-        if (!jsonIgnorePropertiesPerClass.containsKey(declaringClass)) {
-            List<JsonIgnoreProperties> jsonIgnorePropertiesList = new ArrayList<>();
-            JsonIgnoreProperties jsonIgnoreProperties = declaringClass.getAnnotation(JsonIgnoreProperties.class);
-            if (jsonIgnoreProperties != null) {
-                jsonIgnorePropertiesList.add(jsonIgnoreProperties);
-            }
-            for (Field field : declaringClass.getDeclaredFields()) {
-                jsonIgnoreProperties = field.getAnnotation(JsonIgnoreProperties.class);
-                if (jsonIgnoreProperties != null) {
-                    jsonIgnorePropertiesList.add(jsonIgnoreProperties);
-                }
-            }
-            for (Constructor<?> constructor : declaringClass.getDeclaredConstructors()) {
-                jsonIgnoreProperties = constructor.getAnnotation(JsonIgnoreProperties.class);
-                if (jsonIgnoreProperties != null) {
-                    jsonIgnorePropertiesList.add(jsonIgnoreProperties);
-                }
-            }
-            for (Method method : declaringClass.getDeclaredMethods()) {
-                jsonIgnoreProperties = method.getAnnotation(JsonIgnoreProperties.class);
-                if (jsonIgnoreProperties != null) {
-                    jsonIgnorePropertiesList.add(jsonIgnoreProperties);
-                }
-            }
-
-            jsonIgnorePropertiesPerClass.put(declaringClass, jsonIgnorePropertiesList);
-        }
-        return jsonIgnorePropertiesPerClass.get(declaringClass);
-    }
-
     private boolean commonFilter(AccessibleObject member) {
         JsonBackReference jsonBackReference = member.getDeclaredAnnotation(JsonBackReference.class);
         if (jsonBackReference != null) {
@@ -444,11 +440,18 @@ public class JacksonObjectMapper implements ObjectMapper {
     }
 
     private boolean containsIgnoreTypeAnnotation(Class<?> type) {
-        JsonIgnoreType jsonIgnoreType = type.getDeclaredAnnotation(JsonIgnoreType.class);
-        return jsonIgnoreType != null && jsonIgnoreType.value();
+        return JacksonClassConfig.of(type).isIgnoredType();
     }
 
     private boolean isDefaultVisibility(JsonAutoDetect.Visibility visibility) {
         return visibility.equals(JsonAutoDetect.Visibility.DEFAULT);
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("fieldsVisibility", fieldsVisibility)
+                .add("gettersVisibility", gettersVisibility)
+                .add("isGetterVisibility", isGetterVisibility)
+                .add("settersVisibility", settersVisibility);
+    }
 }
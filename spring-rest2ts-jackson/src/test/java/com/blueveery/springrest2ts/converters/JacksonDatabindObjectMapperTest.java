@@ -0,0 +1,143 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.tsmodel.TSField;
+import com.blueveery.springrest2ts.tsmodel.TSInterface;
+import com.blueveery.springrest2ts.tsmodel.generics.TSInterfaceReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class JacksonDatabindObjectMapperTest {
+
+    public static class AccountDTO {
+        private String id;
+        private String login;
+        private String password;
+        private String settings;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getLogin() {
+            return login;
+        }
+
+        public void setLogin(String login) {
+            this.login = login;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public String getSettings() {
+            return settings;
+        }
+
+        public void setSettings(String settings) {
+            this.settings = settings;
+        }
+
+        public int getVersion() {
+            return 1;
+        }
+    }
+
+    abstract static class AccountMixin {
+        @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+        abstract String getId();
+
+        @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+        abstract String getPassword();
+
+        @JsonRawValue
+        abstract String getSettings();
+    }
+
+    abstract static class IgnoredLoginMixin {
+        @JsonIgnore
+        abstract String getLogin();
+    }
+
+    private TypeRegistry previousTypeRegistry;
+
+    @Before
+    public void bindTypeRegistry() {
+        previousTypeRegistry = TypeRegistry.bind(new TypeRegistry());
+    }
+
+    @After
+    public void releaseTypeRegistry() {
+        TypeRegistry.release(previousTypeRegistry);
+    }
+
+    @Test
+    public void mixinAnnotationsAreApplied() {
+        com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
+        objectMapper.addMixIn(AccountDTO.class, AccountMixin.class);
+        Map<String, TSField> tsFields = convert(objectMapper);
+
+        assertEquals(5, tsFields.size());
+        assertTrue(tsFields.get("id").getReadOnly());
+        assertFalse(tsFields.get("id").isOptional());
+        assertFalse(tsFields.get("password").getReadOnly());
+        assertTrue(tsFields.get("password").isOptional());
+        assertSame(TypeMapper.tsAny, tsFields.get("settings").getType());
+        assertFalse(tsFields.get("settings").getReadOnly());
+        assertSame(TypeMapper.tsString, tsFields.get("login").getType());
+        assertFalse(tsFields.get("login").getReadOnly());
+        assertFalse(tsFields.get("login").isOptional());
+        assertTrue(tsFields.get("version").getReadOnly());
+    }
+
+    @Test
+    public void withoutMixinPropertiesAreReadAndWritten() {
+        Map<String, TSField> tsFields = convert(new com.fasterxml.jackson.databind.ObjectMapper());
+
+        assertFalse(tsFields.get("id").getReadOnly());
+        assertFalse(tsFields.get("password").isOptional());
+        assertSame(TypeMapper.tsString, tsFields.get("settings").getType());
+    }
+
+    @Test
+    public void mixinIgnoredPropertyIsSkipped() {
+        com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
+        objectMapper.addMixIn(AccountDTO.class, IgnoredLoginMixin.class);
+        Map<String, TSField> tsFields = convert(objectMapper);
+
+        assertFalse(tsFields.containsKey("login"));
+        assertTrue(tsFields.containsKey("password"));
+    }
+
+    private Map<String, TSField> convert(com.fasterxml.jackson.databind.ObjectMapper objectMapper) {
+        TsModuleCreatorConverter moduleConverter = new TsModuleCreatorConverter(2);
+        moduleConverter.mapJavaTypeToTsModule(AccountDTO.class);
+        ModelClassesToTsInterfacesConverter converter = new ModelClassesToTsInterfacesConverter(new JacksonDatabindObjectMapper(objectMapper));
+        assertTrue(converter.preConverted(moduleConverter, AccountDTO.class));
+        converter.convert(AccountDTO.class, new DefaultNullableTypesStrategy());
+
+        TSInterface tsInterface = ((TSInterfaceReference) TypeMapper.map(AccountDTO.class)).getReferencedType();
+        Map<String, TSField> tsFields = new HashMap<>();
+        for (TSField tsField : tsInterface.getTsFields()) {
+            tsFields.put(tsField.getName(), tsField);
+        }
+        return tsFields;
+    }
+}
@@ -0,0 +1,293 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.tsmodel.TSField;
+import com.blueveery.springrest2ts.tsmodel.TSInterface;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class JacksonObjectMapperTest {
+
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    static class AutoDetectedBase {
+    }
+
+    static class AutoDetectedDTO extends AutoDetectedBase {
+        private String name;
+    }
+
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+    static class NotAutoDetectedDTO extends AutoDetectedBase {
+        private String name;
+    }
+
+    static class PlainDTO {
+        private String name;
+    }
+
+    @JsonIgnoreType
+    interface IgnoredMarker {
+    }
+
+    static class IgnoredDTO implements IgnoredMarker {
+    }
+
+    @JsonIgnoreType(false)
+    static class NotIgnoredDTO implements IgnoredMarker {
+    }
+
+    static class IgnoredDTOHolder extends AutoDetectedBase {
+        public IgnoredDTO ignored;
+        public NotIgnoredDTO notIgnored;
+    }
+
+    static class MissingType {
+    }
+
+    @JsonIgnoreProperties("name")
+    static class MissingTypeHolder {
+        public MissingType missing;
+        public String name;
+    }
+
+    public static class AuditInfo {
+        public String getCreatedBy() {
+            return null;
+        }
+
+        public String getModifiedBy() {
+            return null;
+        }
+    }
+
+    public static class AuditedOrder {
+        @JsonUnwrapped
+        public AuditInfo getAuditInfo() {
+            return null;
+        }
+
+        public String getOrderNumber() {
+            return null;
+        }
+    }
+
+    public static class AuditedInvoice {
+        public String getInvoiceNumber() {
+            return null;
+        }
+
+        @JsonUnwrapped
+        public AuditInfo getAuditInfo() {
+            return null;
+        }
+    }
+
+    public static class LeftPart {
+        @JsonUnwrapped
+        public RightPart getRightPart() {
+            return null;
+        }
+
+        public String getLeftName() {
+            return null;
+        }
+    }
+
+    public static class RightPart {
+        @JsonUnwrapped
+        public LeftPart getLeftPart() {
+            return null;
+        }
+
+        public String getRightName() {
+            return null;
+        }
+    }
+
+    public static class SharedPropertiesDTO {
+        public String getTitle() {
+            return null;
+        }
+
+        public void setTitle(String title) {
+        }
+    }
+
+    /**
+     * Counts reading of SharedPropertiesDTO properties
+     */
+    static class ReadCountingObjectMapper extends JacksonObjectMapper {
+        int readCount;
+
+        @Override
+        public boolean filter(Method method, boolean isGetter) {
+            if (method.getDeclaringClass() == SharedPropertiesDTO.class) {
+                readCount++;
+            }
+            return super.filter(method, isGetter);
+        }
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+
+    @Test
+    public void jsonAutoDetectIsInheritedUnlessDeclared() throws NoSuchFieldException {
+        assertTrue(objectMapper.filter(AutoDetectedDTO.class.getDeclaredField("name")));
+        assertFalse(objectMapper.filter(NotAutoDetectedDTO.class.getDeclaredField("name")));
+        assertFalse(objectMapper.filter(PlainDTO.class.getDeclaredField("name")));
+    }
+
+    @Test
+    public void jsonIgnoreTypeIsInheritedUnlessDeclared() throws NoSuchFieldException {
+        assertFalse(objectMapper.filterClass(IgnoredMarker.class));
+        assertFalse(objectMapper.filterClass(IgnoredDTO.class));
+        assertTrue(objectMapper.filterClass(NotIgnoredDTO.class));
+        assertFalse(objectMapper.filter(IgnoredDTOHolder.class.getDeclaredField("ignored")));
+        assertTrue(objectMapper.filter(IgnoredDTOHolder.class.getDeclaredField("notIgnored")));
+    }
+
+    @Test
+    public void ignoredTypeCheckDoesNotReadClassMembers() throws Exception {
+        Class<?> holderClass = new MissingTypeClassLoader().loadClass(MissingTypeHolder.class.getName());
+        assertTrue(objectMapper.filterClass(holderClass));
+        try {
+            holderClass.getDeclaredFields();
+            fail("Field types of holder class should be missing");
+        } catch (NoClassDefFoundError expected) {
+        }
+        assertNotNull(JacksonClassConfig.of(MissingTypeHolder.class).getJsonIgnoreProperties("name"));
+        assertNull(JacksonClassConfig.of(MissingTypeHolder.class).getJsonIgnoreProperties("missing"));
+    }
+
+    @Test(timeout = 60000)
+    public void unwrappedTypesAreConvertedBeforeParallelConversion() throws IOException {
+        Set<Class> modelClasses = new HashSet<>(Arrays.asList(AuditInfo.class, AuditedOrder.class, AuditedInvoice.class, LeftPart.class, RightPart.class));
+        for (int i = 0; i < 10; i++) {
+            Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+            tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(modelClasses));
+            tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonObjectMapper()));
+            tsGenerator.setConversionParallelism(4);
+            SortedSet<TSModule> tsModules = tsGenerator.generate(Collections.singleton(getClass().getPackage().getName()), temporaryFolder.newFolder().toPath());
+
+            Map<String, Set<String>> fieldNames = new HashMap<>();
+            for (TSModule tsModule : tsModules) {
+                for (TSScopedElement tsScopedElement : tsModule.getScopedTypesSet()) {
+                    Set<String> elementFieldNames = new TreeSet<>();
+                    for (TSField tsField : ((TSInterface) tsScopedElement).getTsFields()) {
+                        elementFieldNames.add(tsField.getName());
+                    }
+                    fieldNames.put(tsScopedElement.getName(), elementFieldNames);
+                }
+            }
+            assertEquals(new TreeSet<>(Arrays.asList("createdBy", "modifiedBy", "orderNumber")), fieldNames.get("JacksonObjectMapperTest$AuditedOrder"));
+            assertEquals(new TreeSet<>(Arrays.asList("createdBy", "invoiceNumber", "modifiedBy")), fieldNames.get("JacksonObjectMapperTest$AuditedInvoice"));
+            //types which unwrap each other are converted without deadlock, fields copied depend on conversion order
+            assertTrue(fieldNames.get("JacksonObjectMapperTest$LeftPart").contains("leftName"));
+            assertTrue(fieldNames.get("JacksonObjectMapperTest$RightPart").contains("rightName"));
+        }
+    }
+
+    @Test
+    public void classPropertiesAreSharedByConvertersAndGenerations() throws IOException {
+        ReadCountingObjectMapper firstObjectMapper = new ReadCountingObjectMapper();
+        generateSharedPropertiesModel(firstObjectMapper);
+        assertTrue(firstObjectMapper.readCount > 0);
+
+        ReadCountingObjectMapper secondObjectMapper = new ReadCountingObjectMapper();
+        generateSharedPropertiesModel(secondObjectMapper);
+        assertEquals(0, secondObjectMapper.readCount);
+
+        ModelClassesToTsInterfacesConverter firstConverter = new ModelClassesToTsInterfacesConverter(firstObjectMapper);
+        ModelClassesToTsInterfacesConverter secondConverter = new ModelClassesToTsInterfacesConverter(secondObjectMapper);
+        SortedSet<Property> sharedProperties = firstConverter.getClassProperties(SharedPropertiesDTO.class, firstObjectMapper);
+        assertSame(sharedProperties, secondConverter.getClassProperties(SharedPropertiesDTO.class, secondObjectMapper));
+        assertEquals(1, sharedProperties.size());
+
+        secondObjectMapper.setGettersVisibility(JsonAutoDetect.Visibility.NONE);
+        secondObjectMapper.setSettersVisibility(JsonAutoDetect.Visibility.NONE);
+        assertTrue(secondConverter.getClassProperties(SharedPropertiesDTO.class, secondObjectMapper).isEmpty());
+        assertTrue(secondObjectMapper.readCount > 0);
+        assertSame(sharedProperties, firstConverter.getClassProperties(SharedPropertiesDTO.class, firstObjectMapper));
+    }
+
+    @Test
+    public void objectMapperSelectedForPackageIsInvalidatedByMapChange() {
+        ModelClassesToTsInterfacesConverter converter = new ModelClassesToTsInterfacesConverter(objectMapper);
+        assertSame(objectMapper, converter.selectObjectMapper(SharedPropertiesDTO.class));
+        JacksonObjectMapper packageObjectMapper = new JacksonObjectMapper();
+        converter.getObjectMapperMap().put(getClass().getPackage().getName(), packageObjectMapper);
+        assertSame(packageObjectMapper, converter.selectObjectMapper(SharedPropertiesDTO.class));
+    }
+
+    private void generateSharedPropertiesModel(ObjectMapper objectMapper) throws IOException {
+        Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+        tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(Collections.<Class>singleton(SharedPropertiesDTO.class)));
+        tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(objectMapper));
+        SortedSet<TSModule> tsModules = tsGenerator.generate(Collections.singleton(getClass().getPackage().getName()), temporaryFolder.newFolder().toPath());
+        TSInterface tsInterface = (TSInterface) tsModules.first().getScopedTypesSet().iterator().next();
+        assertEquals("title", tsInterface.getTsFields().first().getName());
+    }
+
+    /**
+     * Defines its own MissingTypeHolder class for which MissingType can't be found
+     */
+    private static class MissingTypeClassLoader extends ClassLoader {
+        MissingTypeClassLoader() {
+            super(JacksonObjectMapperTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals(MissingType.class.getName())) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.equals(MissingTypeHolder.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    byte[] classBytes = readClassBytes(name);
+                    loadedClass = defineClass(name, classBytes, 0, classBytes.length);
+                }
+                return loadedClass;
+            }
+        }
+
+        private byte[] readClassBytes(String name) throws ClassNotFoundException {
+            try (InputStream classInput = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (classInput == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int readCount;
+                while ((readCount = classInput.read(buffer)) != -1) {
+                    classBytes.write(buffer, 0, readCount);
+                }
+                return classBytes.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.extensions.ModelConversionExtension;
 import com.blueveery.springrest2ts.filters.JavaTypeFilter;
 import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
@@ -12,7 +14,7 @@ import org.springframework.data.domain.Sort;
 
 import java.util.*;
 
-public class SpringDataModelConversionExtension implements ModelConversionExtension {
+public class SpringDataModelConversionExtension implements ModelConversionExtension, DescribedConfiguration {
     public JavaTypeFilter getJavaTypeFilter() {
         Set<Class> springDataTypes = new HashSet<>();
         springDataTypes.add(Slice.class);
@@ -82,4 +84,8 @@ public class SpringDataModelConversionExtension implements ModelConversionExtens
             }
         }
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+    }
 }
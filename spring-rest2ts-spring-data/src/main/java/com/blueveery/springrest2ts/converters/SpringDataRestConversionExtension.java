@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.extensions.ModelConversionExtension;
 import com.blueveery.springrest2ts.extensions.RestConversionExtension;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
@@ -14,7 +16,7 @@ import org.springframework.data.web.PageableDefault;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 
-public class SpringDataRestConversionExtension implements RestConversionExtension {
+public class SpringDataRestConversionExtension implements RestConversionExtension, DescribedConfiguration {
 
     SpringDataModelConversionExtension modelConversionExtension = new SpringDataModelConversionExtension();
 
@@ -73,4 +75,9 @@ public class SpringDataRestConversionExtension implements RestConversionExtensio
 
         return String.format("\nif(%s) {\n%s\n}", tsParameter.getName(), code.toString());
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("modelConversionExtension", modelConversionExtension);
+    }
 }
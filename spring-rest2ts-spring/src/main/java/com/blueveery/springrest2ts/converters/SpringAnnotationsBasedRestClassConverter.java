@@ -57,21 +57,14 @@ public abstract class SpringAnnotationsBasedRestClassConverter extends RestClass
         Map<Method, StringBuilder> methodNamesMap = new HashMap<>();
 
         for (Method method: restMethodList) {
-
-            Map<String, Type> variableNameToJavaType = new HashMap<>();
-            Class<?> declaringClass = method.getDeclaringClass();
-            if(declaringClass != javaClass && method.getDeclaringClass().isInterface()){
-                variableNameToJavaType = fillVariableNameToJavaType(javaClass, declaringClass);
-            }
-
             Type genericReturnType = handleImplementationSpecificReturnTypes(method);
             String methodName = mapMethodName(restMethodList, methodNamesMap,  method);
-            TSType methodReturnType = TypeMapper.map(resolveTypeVariable(genericReturnType, variableNameToJavaType));
+            TSType methodReturnType = TypeMapper.map(TypeVariableResolver.resolve(javaClass, genericReturnType));
             tsClass.getModule().scopedTypeUsage(methodReturnType);
             TSMethod tsMethod = new TSMethod(methodName, tsClass, methodReturnType, implementationGenerator, false, false);
             addMethodAnnotations(method, tsMethod);
             for (Parameter parameter:method.getParameters()) {
-                Type parameterType = resolveTypeVariable(parameter.getParameterizedType(), variableNameToJavaType);
+                Type parameterType = TypeVariableResolver.resolve(javaClass, parameter.getParameterizedType());
                 TSParameter tsParameter = new TSParameter(parameter.getName(), TypeMapper.map(parameterType), tsMethod, implementationGenerator);
                 addParameterAnnotations(parameter, tsParameter);
                 if (parameterIsMapped(tsParameter)) {
@@ -98,36 +91,6 @@ public abstract class SpringAnnotationsBasedRestClassConverter extends RestClass
 
     protected abstract Type handleImplementationSpecificReturnTypes(Method method);
 
-    private Type resolveTypeVariable(Type type, Map<String, Type> variableNameToJavaType) {
-        if (type instanceof TypeVariable) {
-            TypeVariable typeVariable = (TypeVariable) type;
-            Type resolvedType = variableNameToJavaType.get(typeVariable.getName());
-            if (resolvedType != null) {
-                return resolvedType;
-            }
-        }
-        return type;
-    }
-
-    private Map<String, Type> fillVariableNameToJavaType(Class javaClass, Class<?> declaringClass) {
-        Map<String, Type> typeParametersMap = new HashMap<>();
-        for (Type type:javaClass.getGenericInterfaces()){
-            if (type instanceof ParameterizedType) {
-                ParameterizedType parameterizedType = (ParameterizedType) type;
-                if (parameterizedType.getRawType() == declaringClass) {
-                    for (int i = 0; i < parameterizedType.getActualTypeArguments().length; i++) {
-                        TypeVariable typeParameter = declaringClass.getTypeParameters()[i];
-                        Type actualTypeArgument = parameterizedType.getActualTypeArguments()[i];
-                        typeParametersMap.put(typeParameter.getName(), actualTypeArgument);
-                    }
-                    return typeParametersMap;
-                }
-                return fillVariableNameToJavaType((Class) type, declaringClass);
-            }
-        }
-        return typeParametersMap;
-    }
-
     private List<Method> filterRestMethods(Class javaClass) {
         List<Method> restMethodList = new ArrayList<>();
         for (Method method : javaClass.getMethods()) {
@@ -1,5 +1,6 @@
 package com.blueveery.springrest2ts.implgens;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
 import com.blueveery.springrest2ts.tsmodel.*;
 import com.blueveery.springrest2ts.tsmodel.generics.TSClassReference;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -224,4 +225,11 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
             }
         }
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        super.describeConfiguration(configurationDescription);
+        configurationDescription.add("useUrlService", useUrlService)
+                .add("urlServiceModule", useUrlService ? urlServiceClass.getModule() : null);
+    }
 }
@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.implgens;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.converters.TypeMapper;
 import com.blueveery.springrest2ts.extensions.ConversionExtension;
 import com.blueveery.springrest2ts.extensions.RestConversionExtension;
@@ -16,7 +18,7 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.util.List;
 
-public abstract class BaseImplementationGenerator implements ImplementationGenerator {
+public abstract class BaseImplementationGenerator implements ImplementationGenerator, DescribedConfiguration {
 
     protected List<? extends ConversionExtension> extensionSet;
 
@@ -182,4 +184,8 @@ public abstract class BaseImplementationGenerator implements ImplementationGener
         return classLevelPath + pathSeparator +  methodLevelPath + "'";
     }
 
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+        configurationDescription.add("extensionSet", extensionSet);
+    }
 }
@@ -1,11 +1,13 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.ConfigurationDescription;
+import com.blueveery.springrest2ts.DescribedConfiguration;
 import com.blueveery.springrest2ts.tsmodel.*;
 import io.swagger.oas.annotations.Operation;
 
 import java.lang.reflect.Method;
 
-public class SwaggerConversionListener implements ConversionListener {
+public class SwaggerConversionListener implements ConversionListener, DescribedConfiguration {
     @Override
     public void tsScopedTypeCreated(Class javaType, TSScopedElement tsScopedElement) {
         Operation operationAnnotation = (Operation) javaType.getAnnotation(Operation.class);
@@ -37,4 +39,8 @@ public class SwaggerConversionListener implements ConversionListener {
             }
         }
     }
+
+    @Override
+    public void describeConfiguration(ConfigurationDescription configurationDescription) {
+    }
 }